@@ -2,18 +2,29 @@ package aqario.fowlplay.common;
 
 import aqario.fowlplay.common.config.FowlPlayConfig;
 import aqario.fowlplay.common.entity.*;
+import aqario.fowlplay.common.entity.ai.brain.BirdWakeRegistry;
 import aqario.fowlplay.common.entity.ai.brain.FowlPlayActivities;
 import aqario.fowlplay.common.entity.ai.brain.FowlPlayMemoryModuleType;
 import aqario.fowlplay.common.entity.ai.brain.sensor.FowlPlaySensorType;
 import aqario.fowlplay.common.entity.data.FowlPlayTrackedDataHandlerRegistry;
+import aqario.fowlplay.common.item.FoodMatcher;
 import aqario.fowlplay.common.item.FowlPlayItems;
 import aqario.fowlplay.common.registry.FowlPlayRegistries;
 import aqario.fowlplay.common.registry.FowlPlayRegistryKeys;
 import aqario.fowlplay.common.sound.FowlPlaySoundEvents;
+import aqario.fowlplay.common.world.BirdPopulationMap;
+import aqario.fowlplay.common.world.FoodReservationTable;
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import aqario.fowlplay.common.world.WantedItemIndex;
 import aqario.fowlplay.common.world.gen.*;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.entity.ItemEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,32 +59,44 @@ public class FowlPlay implements ModInitializer {
         FowlPlayTrackedDataHandlerRegistry.init();
         FowlPlayWorldGen.init();
 
-        GullSpawner gullSpawner = new GullSpawner();
-        HawkSpawner hawkSpawner = new HawkSpawner();
-        PigeonSpawner pigeonSpawner = new PigeonSpawner();
-        SparrowSpawner sparrowSpawner = new SparrowSpawner();
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> FoodMatcher.rebuildAll());
+
+        BirdSpawnScheduler.register(new GullSpawner());
+        BirdSpawnScheduler.register(new HawkSpawner());
+        BirdSpawnScheduler.register(new PigeonSpawner());
+        BirdSpawnScheduler.register(new SparrowSpawner());
 
         ServerTickEvents.END_WORLD_TICK.register(world -> {
-            gullSpawner.spawn(
-                world,
-                world.getServer().isMonsterSpawningEnabled(),
-                world.getServer().shouldSpawnAnimals()
-            );
-            hawkSpawner.spawn(
-                world,
-                world.getServer().isMonsterSpawningEnabled(),
-                world.getServer().shouldSpawnAnimals()
-            );
-            pigeonSpawner.spawn(
-                world,
-                world.getServer().isMonsterSpawningEnabled(),
-                world.getServer().shouldSpawnAnimals()
-            );
-            sparrowSpawner.spawn(
-                world,
-                world.getServer().isMonsterSpawningEnabled(),
-                world.getServer().shouldSpawnAnimals()
-            );
+            BirdSpawnScheduler.get(world).tick(world.getServer().shouldSpawnAnimals());
+            BirdSpawnCapController.onWorldTick(world);
+        });
+        ServerTickEvents.END_SERVER_TICK.register(BirdSpawnCapController::onServerTick);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> BirdSpawnCapController.reset());
+
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (entity instanceof ItemEntity item) {
+                BirdWakeRegistry.get(world).wakeNear(
+                    item.getPos(),
+                    BirdWakeRegistry.WAKE_RADIUS,
+                    bird -> bird.getFood().matches(item.getStack())
+                );
+                WantedItemIndex.get(world).onLoaded(item);
+            }
+            else if (entity instanceof BirdEntity bird) {
+                BirdPopulationMap.get(world).onLoaded(bird);
+            }
         });
+
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (entity instanceof ItemEntity item) {
+                WantedItemIndex.get(world).onUnloaded(item);
+                FoodReservationTable.get(world).release(item);
+            }
+            else if (entity instanceof BirdEntity bird) {
+                BirdPopulationMap.get(world).onUnloaded(bird);
+            }
+        });
+
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> FowlPlayWorldState.get(world).onChunkUnloaded(chunk.getPos()));
     }
-}
\ No newline at end of file
+}
@@ -193,4 +193,23 @@ public class FowlPlayConfig {
     public int sparrowMinGroupSize = 3;
     @SerialEntry
     public int sparrowMaxGroupSize = 6;
+
+    // Performance
+
+    @SerialEntry
+    public int fullAiDistance = 48;
+    @SerialEntry
+    public int reducedAiDistance = 96;
+    @SerialEntry
+    public int reducedAiTickInterval = 4;
+    @SerialEntry
+    public int aiTickBudget = 10;
+    @SerialEntry
+    public boolean asyncPathfinding = true;
+    @SerialEntry
+    public int targetTickTime = 40;
+    @SerialEntry
+    public int minBirdSpawnCap = 25;
+    @SerialEntry
+    public int maxBirdSpawnCap = 100;
 }
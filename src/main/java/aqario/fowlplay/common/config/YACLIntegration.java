@@ -276,6 +276,85 @@ public class YACLIntegration {
                     ))
                     .build()
                 )
+                .category(ConfigCategory.createBuilder()
+                    .name(Text.translatable("config.performance"))
+                    .group(OptionGroup.createBuilder()
+                        .name(Text.translatable("config.performance.ai"))
+                        .option(createPerformanceOption(
+                            "config.performance.ai.fullAiDistance",
+                            defaults.fullAiDistance,
+                            () -> config.fullAiDistance,
+                            val -> config.fullAiDistance = val,
+                            0,
+                            256
+                        ))
+                        .option(createPerformanceOption(
+                            "config.performance.ai.reducedAiDistance",
+                            defaults.reducedAiDistance,
+                            () -> config.reducedAiDistance,
+                            val -> config.reducedAiDistance = val,
+                            0,
+                            256
+                        ))
+                        .option(createPerformanceOption(
+                            "config.performance.ai.reducedAiTickInterval",
+                            defaults.reducedAiTickInterval,
+                            () -> config.reducedAiTickInterval,
+                            val -> config.reducedAiTickInterval = val,
+                            1,
+                            20
+                        ))
+                        .option(createPerformanceOption(
+                            "config.performance.ai.aiTickBudget",
+                            defaults.aiTickBudget,
+                            () -> config.aiTickBudget,
+                            val -> config.aiTickBudget = val,
+                            0,
+                            50
+                        ))
+                        .build()
+                    )
+                    .group(OptionGroup.createBuilder()
+                        .name(Text.translatable("config.performance.pathfinding"))
+                        .option(Option.<Boolean>createBuilder()
+                            .name(Text.translatable("config.performance.pathfinding.asyncPathfinding"))
+                            .description(OptionDescription.of(Text.translatable("config.performance.pathfinding.asyncPathfinding.desc")))
+                            .binding(defaults.asyncPathfinding, () -> config.asyncPathfinding, val -> config.asyncPathfinding = val)
+                            .controller(BooleanControllerBuilder::create)
+                            .build()
+                        )
+                        .build()
+                    )
+                    .group(OptionGroup.createBuilder()
+                        .name(Text.translatable("config.performance.spawning"))
+                        .option(createPerformanceOption(
+                            "config.performance.spawning.targetTickTime",
+                            defaults.targetTickTime,
+                            () -> config.targetTickTime,
+                            val -> config.targetTickTime = val,
+                            0,
+                            50
+                        ))
+                        .option(createPerformanceOption(
+                            "config.performance.spawning.minBirdSpawnCap",
+                            defaults.minBirdSpawnCap,
+                            () -> config.minBirdSpawnCap,
+                            val -> config.minBirdSpawnCap = val,
+                            0,
+                            100
+                        ))
+                        .option(createPerformanceOption(
+                            "config.performance.spawning.maxBirdSpawnCap",
+                            defaults.maxBirdSpawnCap,
+                            () -> config.maxBirdSpawnCap,
+                            val -> config.maxBirdSpawnCap = val,
+                            0,
+                            200
+                        ))
+                        .build()
+                    )
+                    .build()
+                )
                 .save(FowlPlayConfig::save)
             )
             .generateScreen(parent);
@@ -382,4 +461,16 @@ public class YACLIntegration {
             )
             .build();
     }
+
+    private static Option<Integer> createPerformanceOption(String name, int defaultValue, Supplier<Integer> get, Consumer<Integer> set, int min, int max) {
+        return Option.<Integer>createBuilder()
+            .name(Text.translatable(name))
+            .description(OptionDescription.of(Text.translatable(name + ".desc")))
+            .binding(defaultValue, get, set)
+            .controller(option -> IntegerSliderControllerBuilder.create(option)
+                .range(min, max)
+                .step(1)
+            )
+            .build();
+    }
 }
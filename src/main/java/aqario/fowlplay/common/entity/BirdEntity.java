@@ -1,22 +1,30 @@
 package aqario.fowlplay.common.entity;
 
+import aqario.fowlplay.common.entity.ai.brain.BirdBrainBudget;
+import aqario.fowlplay.common.entity.ai.brain.BirdBrainScheduler;
+import aqario.fowlplay.common.entity.ai.brain.BirdWakeRegistry;
+import aqario.fowlplay.common.entity.ai.brain.BrainTickState;
 import aqario.fowlplay.common.entity.ai.brain.FowlPlayMemoryModuleType;
 import aqario.fowlplay.common.entity.ai.control.BirdBodyControl;
 import aqario.fowlplay.common.entity.ai.control.BirdLookControl;
+import aqario.fowlplay.common.item.FoodMatcher;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.entity.*;
+import net.minecraft.entity.ai.brain.Brain;
 import net.minecraft.entity.ai.brain.MemoryModuleState;
 import net.minecraft.entity.ai.brain.MemoryModuleType;
 import net.minecraft.entity.ai.control.BodyControl;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.passive.AnimalEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.particle.ItemStackParticleEffect;
 import net.minecraft.particle.ParticleTypes;
-import net.minecraft.recipe.Ingredient;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundEvent;
+import net.minecraft.util.Util;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.LocalDifficulty;
@@ -26,6 +34,7 @@ import org.jetbrains.annotations.Nullable;
 
 public abstract class BirdEntity extends AnimalEntity {
     private int eatingTime;
+    private final BrainTickState brainTickState = new BrainTickState();
     public int callChance;
     public int songChance;
 
@@ -87,7 +96,7 @@ public abstract class BirdEntity extends AnimalEntity {
     @Override
     public boolean canPickupItem(ItemStack stack) {
         ItemStack heldStack = this.getEquippedStack(EquipmentSlot.MAINHAND);
-        return this.getFood().test(stack) && !this.getFood().test(heldStack);
+        return this.getFood().matches(stack) && !this.getFood().matches(heldStack);
     }
 
     private void dropWithoutDelay(ItemStack stack, Entity thrower) {
@@ -124,10 +133,10 @@ public abstract class BirdEntity extends AnimalEntity {
     }
 
     private boolean canEat(ItemStack stack) {
-        return this.getFood().test(stack)/* && !this.isSleeping()*/;
+        return this.getFood().matches(stack)/* && !this.isSleeping()*/;
     }
 
-    public abstract Ingredient getFood();
+    public abstract FoodMatcher getFood();
 
     public boolean canHunt(LivingEntity target) {
         return false;
@@ -173,7 +182,7 @@ public abstract class BirdEntity extends AnimalEntity {
                     this.getWorld().sendEntityStatus(this, EntityStatuses.CREATE_EATING_PARTICLES);
                 }
             }
-            else if (!stack.isEmpty() && !this.getFood().test(stack)) {
+            else if (!stack.isEmpty() && !this.getFood().matches(stack)) {
                 if (this.random.nextFloat() < 0.1f) {
                     this.dropStack(this.getEquippedStack(EquipmentSlot.MAINHAND));
                     this.equipStack(EquipmentSlot.MAINHAND, ItemStack.EMPTY);
@@ -182,6 +191,67 @@ public abstract class BirdEntity extends AnimalEntity {
         }
     }
 
+    @Override
+    protected void mobTick() {
+        if (BirdBrainScheduler.shouldTickBrain(this)) {
+            BirdBrainBudget budget = BirdBrainBudget.get((ServerWorld) this.getWorld());
+            if (budget.tryStart(this.brainTickState)) {
+                long start = Util.getMeasuringTimeNano();
+                this.tickBrain();
+                budget.finish(this.brainTickState, Util.getMeasuringTimeNano() - start);
+            }
+        }
+        super.mobTick();
+    }
+
+    /**
+     * Ticks this bird's brain and resets its activities, called from {@link #mobTick()} whenever the
+     * {@link BirdBrainScheduler} and the world's {@link BirdBrainBudget} allow it.
+     */
+    protected abstract void tickBrain();
+
+    /**
+     * @return whether this bird should always have its brain ticked, regardless of how far it is from players
+     */
+    public boolean requiresFullAi() {
+        return this.isLeashed() || this.hasPassengers();
+    }
+
+    public BrainTickState getBrainTickState() {
+        return this.brainTickState;
+    }
+
+    /**
+     * @return whether this bird is idle enough to stop ticking its brain until something wakes it
+     */
+    public boolean canHibernate() {
+        if (this.requiresFullAi()
+            || !this.isOnGround()
+            || this.isTouchingWater()
+            || !this.getNavigation().isIdle()
+            || this.getVelocity().horizontalLengthSquared() > 1.0E-4
+        ) {
+            return false;
+        }
+        Brain<?> brain = this.getBrain();
+        return !brain.hasMemoryModule(MemoryModuleType.WALK_TARGET)
+            && !brain.hasMemoryModule(MemoryModuleType.AVOID_TARGET)
+            && !brain.hasMemoryModule(MemoryModuleType.ATTACK_TARGET)
+            && !brain.hasMemoryModule(MemoryModuleType.HURT_BY)
+            && !brain.hasMemoryModule(MemoryModuleType.TEMPTING_PLAYER)
+            && !brain.hasMemoryModule(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM)
+            && !brain.hasMemoryModule(FowlPlayMemoryModuleType.SEES_FOOD);
+    }
+
+    @Override
+    public boolean damage(DamageSource source, float amount) {
+        if (!this.getWorld().isClient) {
+            // wake up this bird and any neighbours that may be alerted by it
+            BirdWakeRegistry.get((ServerWorld) this.getWorld()).wakeNear(this.getPos(), BirdWakeRegistry.WAKE_RADIUS);
+        }
+        return super.damage(source, amount);
+    }
+
     @Override
     public void handleStatus(byte status) {
         if (status == EntityStatuses.CREATE_EATING_PARTICLES) {
@@ -1,9 +1,9 @@
 package aqario.fowlplay.common.entity;
 
 import aqario.fowlplay.common.config.FowlPlayConfig;
+import aqario.fowlplay.common.item.FoodMatcher;
 import aqario.fowlplay.common.sound.FowlPlaySoundEvents;
 import aqario.fowlplay.common.tags.FowlPlayEntityTypeTags;
-import aqario.fowlplay.common.tags.FowlPlayItemTags;
 import com.mojang.serialization.Dynamic;
 import net.minecraft.entity.AnimationState;
 import net.minecraft.entity.EntityType;
@@ -13,7 +13,6 @@ import net.minecraft.entity.ai.pathing.PathNodeType;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.recipe.Ingredient;
 import net.minecraft.server.network.DebugInfoSender;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundEvent;
@@ -38,8 +37,8 @@ public class CardinalEntity extends FlyingBirdEntity {
     }
 
     @Override
-    public Ingredient getFood() {
-        return Ingredient.fromTag(FowlPlayItemTags.CARDINAL_FOOD);
+    public FoodMatcher getFood() {
+        return FoodMatcher.CARDINAL;
     }
 
     @Override
@@ -143,14 +142,13 @@ public class CardinalEntity extends FlyingBirdEntity {
     }
 
     @Override
-    protected void mobTick() {
+    protected void tickBrain() {
         this.getWorld().getProfiler().push("cardinalBrain");
         this.getBrain().tick((ServerWorld) this.getWorld(), this);
         this.getWorld().getProfiler().pop();
         this.getWorld().getProfiler().push("cardinalActivityUpdate");
         CardinalBrain.reset(this);
         this.getWorld().getProfiler().pop();
-        super.mobTick();
     }
 
     @Override
@@ -1,9 +1,9 @@
 package aqario.fowlplay.common.entity;
 
 import aqario.fowlplay.common.config.FowlPlayConfig;
+import aqario.fowlplay.common.item.FoodMatcher;
 import aqario.fowlplay.common.sound.FowlPlaySoundEvents;
 import aqario.fowlplay.common.tags.FowlPlayEntityTypeTags;
-import aqario.fowlplay.common.tags.FowlPlayItemTags;
 import com.mojang.serialization.Dynamic;
 import net.minecraft.entity.AnimationState;
 import net.minecraft.entity.EntityType;
@@ -13,7 +13,6 @@ import net.minecraft.entity.ai.pathing.PathNodeType;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.recipe.Ingredient;
 import net.minecraft.server.network.DebugInfoSender;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundEvent;
@@ -50,8 +49,8 @@ public class ChickadeeEntity extends FlyingBirdEntity {
     }
 
     @Override
-    public Ingredient getFood() {
-        return Ingredient.fromTag(FowlPlayItemTags.CHICKADEE_FOOD);
+    public FoodMatcher getFood() {
+        return FoodMatcher.CHICKADEE;
     }
 
     @Override
@@ -164,14 +163,13 @@ public class ChickadeeEntity extends FlyingBirdEntity {
     }
 
     @Override
-    protected void mobTick() {
+    protected void tickBrain() {
         this.getWorld().getProfiler().push("chickadeeBrain");
         this.getBrain().tick((ServerWorld) this.getWorld(), this);
         this.getWorld().getProfiler().pop();
         this.getWorld().getProfiler().push("chickadeeActivityUpdate");
         ChickadeeBrain.reset(this);
         this.getWorld().getProfiler().pop();
-        super.mobTick();
     }
 
     @Override
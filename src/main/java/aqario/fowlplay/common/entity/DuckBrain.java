@@ -5,7 +5,7 @@ import aqario.fowlplay.common.entity.ai.brain.FowlPlayActivities;
 import aqario.fowlplay.common.entity.ai.brain.FowlPlayMemoryModuleType;
 import aqario.fowlplay.common.entity.ai.brain.sensor.FowlPlaySensorType;
 import aqario.fowlplay.common.entity.ai.brain.task.*;
-import aqario.fowlplay.common.tags.FowlPlayItemTags;
+import aqario.fowlplay.common.item.FoodMatcher;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -23,7 +23,6 @@ import net.minecraft.entity.ai.brain.sensor.SensorType;
 import net.minecraft.entity.ai.brain.task.*;
 import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.recipe.Ingredient;
 import net.minecraft.util.math.intprovider.UniformIntProvider;
 
 import java.util.List;
@@ -33,17 +32,11 @@ import java.util.function.Predicate;
 
 public class DuckBrain {
     private static final ImmutableList<SensorType<? extends Sensor<? super DuckEntity>>> SENSORS = ImmutableList.of(
-        SensorType.NEAREST_PLAYERS,
-        SensorType.NEAREST_ITEMS,
-        SensorType.NEAREST_ADULT,
+        FowlPlaySensorType.NEARBY_ENTITIES,
         SensorType.HURT_BY,
         SensorType.IS_IN_WATER,
-        FowlPlaySensorType.NEARBY_LIVING_ENTITIES,
         FowlPlaySensorType.IS_FLYING,
-        FowlPlaySensorType.NEARBY_ADULTS,
-        FowlPlaySensorType.TEMPTING_PLAYER,
-        FowlPlaySensorType.AVOID_TARGETS,
-        FowlPlaySensorType.ATTACK_TARGETS
+        FowlPlaySensorType.CLASSIFY_TARGETS
     );
     private static final ImmutableList<MemoryModuleType<?>> MEMORIES = ImmutableList.of(
         MemoryModuleType.LOOK_TARGET,
@@ -52,6 +45,7 @@ public class DuckBrain {
         MemoryModuleType.WALK_TARGET,
         MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE,
         MemoryModuleType.PATH,
+        FowlPlayMemoryModuleType.PENDING_PATH,
         MemoryModuleType.BREED_TARGET,
         MemoryModuleType.NEAREST_VISIBLE_PLAYER,
         MemoryModuleType.NEAREST_VISIBLE_TARGETABLE_PLAYER,
@@ -294,10 +288,10 @@ public class DuckBrain {
     }
 
     public static boolean isPlayerHoldingFood(LivingEntity target) {
-        return target.getType() == EntityType.PLAYER && target.isHolding(stack -> getFood().test(stack));
+        return target.getType() == EntityType.PLAYER && target.isHolding(stack -> getFood().matches(stack));
     }
 
-    public static Ingredient getFood() {
-        return Ingredient.fromTag(FowlPlayItemTags.DUCK_FOOD);
+    public static FoodMatcher getFood() {
+        return FoodMatcher.DUCK;
     }
 }
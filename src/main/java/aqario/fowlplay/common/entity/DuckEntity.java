@@ -3,13 +3,14 @@ package aqario.fowlplay.common.entity;
 import aqario.fowlplay.common.config.FowlPlayConfig;
 import aqario.fowlplay.common.entity.ai.control.BirdFlightMoveControl;
 import aqario.fowlplay.common.entity.ai.control.BirdFloatMoveControl;
+import aqario.fowlplay.common.entity.ai.flock.Flock;
 import aqario.fowlplay.common.entity.ai.pathing.BirdNavigation;
 import aqario.fowlplay.common.entity.data.FowlPlayTrackedDataHandlerRegistry;
+import aqario.fowlplay.common.item.FoodMatcher;
 import aqario.fowlplay.common.registry.FowlPlayRegistries;
 import aqario.fowlplay.common.registry.FowlPlayRegistryKeys;
 import aqario.fowlplay.common.sound.FowlPlaySoundEvents;
 import aqario.fowlplay.common.tags.FowlPlayEntityTypeTags;
-import aqario.fowlplay.common.tags.FowlPlayItemTags;
 import com.mojang.serialization.Dynamic;
 import net.minecraft.entity.*;
 import net.minecraft.entity.ai.brain.Brain;
@@ -25,7 +26,6 @@ import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.recipe.Ingredient;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.network.DebugInfoSender;
@@ -51,6 +51,8 @@ public class DuckEntity extends TrustingBirdEntity implements VariantHolder<Regi
     public final AnimationState glideState = new AnimationState();
     public final AnimationState flapState = new AnimationState();
     public final AnimationState floatState = new AnimationState();
+    @Nullable
+    private Flock flock;
 
     public DuckEntity(EntityType<? extends DuckEntity> entityType, World world) {
         super(entityType, world);
@@ -167,8 +169,8 @@ public class DuckEntity extends TrustingBirdEntity implements VariantHolder<Regi
         return null;
     }
 
-    public Ingredient getFood() {
-        return Ingredient.fromTag(FowlPlayItemTags.DUCK_FOOD);
+    public FoodMatcher getFood() {
+        return FoodMatcher.DUCK;
     }
 
     @Override
@@ -248,14 +250,13 @@ public class DuckEntity extends TrustingBirdEntity implements VariantHolder<Regi
     }
 
     @Override
-    protected void mobTick() {
+    protected void tickBrain() {
         this.getWorld().getProfiler().push("duckBrain");
         this.getBrain().tick((ServerWorld) this.getWorld(), this);
         this.getWorld().getProfiler().pop();
         this.getWorld().getProfiler().push("duckActivityUpdate");
         DuckBrain.reset(this);
         this.getWorld().getProfiler().pop();
-        super.mobTick();
     }
 
     @Override
@@ -276,12 +277,14 @@ public class DuckEntity extends TrustingBirdEntity implements VariantHolder<Regi
         return this.isSubmergedInWater() || waterHeight > this.getY() + this.getMaxWaterHeight();
     }
 
+    @Nullable
     @Override
-    public boolean isLeader() {
-        return false;
+    public Flock getFlock() {
+        return this.flock;
     }
 
     @Override
-    public void setLeader() {
+    public void setFlock(@Nullable Flock flock) {
+        this.flock = flock;
     }
 }
@@ -1,7 +1,16 @@
 package aqario.fowlplay.common.entity;
 
+import aqario.fowlplay.common.entity.ai.flock.Flock;
+import org.jetbrains.annotations.Nullable;
+
 public interface Flocking {
-    boolean isLeader();
+    @Nullable
+    Flock getFlock();
+
+    void setFlock(@Nullable Flock flock);
 
-    void setLeader();
+    default boolean isLeader() {
+        Flock flock = this.getFlock();
+        return flock != null && flock.getLeader() == this;
+    }
 }
@@ -25,10 +25,20 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.random.Random;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldAccess;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class FlyingBirdEntity extends BirdEntity {
     private static final TrackedData<Boolean> FLYING = DataTracker.registerData(FlyingBirdEntity.class, TrackedDataHandlerRegistry.BOOLEAN);
     private boolean isFlightMoveControl;
+    // assigned while the entity is being constructed, so these must not have initializers
+    @Nullable
+    private MoveControl landMoveControl;
+    @Nullable
+    private EntityNavigation landNavigation;
+    @Nullable
+    private BirdFlightMoveControl flightMoveControl;
+    @Nullable
+    private BirdNavigation flightNavigation;
     private float prevRoll;
     private float visualRoll;
     public int timeFlying = 0;
@@ -146,17 +156,36 @@ public abstract class FlyingBirdEntity extends BirdEntity {
         return birdNavigation;
     }
 
+    /**
+     * Swaps between the flight and land controls, which are each created once and reused.
+     * The navigation swapped out is stopped, so its path isn't picked up again on the next swap.
+     */
     protected void setMoveControl(boolean isFlying) {
+        EntityNavigation previousNavigation = this.navigation;
         if (isFlying) {
-            this.moveControl = this.getFlightMoveControl();
-            this.navigation = this.getFlightNavigation();
+            if (this.flightMoveControl == null) {
+                this.flightMoveControl = this.getFlightMoveControl();
+                this.flightNavigation = this.getFlightNavigation();
+            }
+            this.moveControl = this.flightMoveControl;
+            this.navigation = this.flightNavigation;
             this.isFlightMoveControl = true;
         }
         else {
-            this.moveControl = this.getLandMoveControl();
-            this.navigation = this.getLandNavigation();
+            if (this.landMoveControl == null) {
+                this.landMoveControl = this.getLandMoveControl();
+                this.landNavigation = this.getLandNavigation();
+            }
+            this.moveControl = this.landMoveControl;
+            this.navigation = this.landNavigation;
             this.isFlightMoveControl = false;
         }
+        if (previousNavigation != null && previousNavigation != this.navigation) {
+            previousNavigation.stop();
+        }
+        if (this.moveControl instanceof BirdMoveControl birdMoveControl) {
+            birdMoveControl.stop();
+        }
     }
 
     @Override
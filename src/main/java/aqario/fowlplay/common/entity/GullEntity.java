@@ -5,11 +5,11 @@ import aqario.fowlplay.common.entity.ai.control.BirdFlightMoveControl;
 import aqario.fowlplay.common.entity.ai.control.BirdFloatMoveControl;
 import aqario.fowlplay.common.entity.ai.pathing.BirdNavigation;
 import aqario.fowlplay.common.entity.data.FowlPlayTrackedDataHandlerRegistry;
+import aqario.fowlplay.common.item.FoodMatcher;
 import aqario.fowlplay.common.registry.FowlPlayRegistries;
 import aqario.fowlplay.common.registry.FowlPlayRegistryKeys;
 import aqario.fowlplay.common.sound.FowlPlaySoundEvents;
 import aqario.fowlplay.common.tags.FowlPlayEntityTypeTags;
-import aqario.fowlplay.common.tags.FowlPlayItemTags;
 import com.mojang.serialization.Dynamic;
 import net.minecraft.entity.*;
 import net.minecraft.entity.ai.brain.Brain;
@@ -25,7 +25,6 @@ import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
-import net.minecraft.recipe.Ingredient;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.network.DebugInfoSender;
@@ -167,8 +166,8 @@ public class GullEntity extends TrustingBirdEntity implements VariantHolder<Regi
         return null;
     }
 
-    public Ingredient getFood() {
-        return Ingredient.fromTag(FowlPlayItemTags.GULL_FOOD);
+    public FoodMatcher getFood() {
+        return FoodMatcher.GULL;
     }
 
     @Override
@@ -264,14 +263,13 @@ public class GullEntity extends TrustingBirdEntity implements VariantHolder<Regi
     }
 
     @Override
-    protected void mobTick() {
+    protected void tickBrain() {
         this.getWorld().getProfiler().push("gullBrain");
         this.getBrain().tick((ServerWorld) this.getWorld(), this);
         this.getWorld().getProfiler().pop();
         this.getWorld().getProfiler().push("gullActivityUpdate");
         GullBrain.reset(this);
         this.getWorld().getProfiler().pop();
-        super.mobTick();
     }
 
     @Override
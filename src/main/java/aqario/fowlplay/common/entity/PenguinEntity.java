@@ -1,11 +1,11 @@
 package aqario.fowlplay.common.entity;
 
 import aqario.fowlplay.common.config.FowlPlayConfig;
+import aqario.fowlplay.common.item.FoodMatcher;
 import aqario.fowlplay.common.sound.FowlPlaySoundEvents;
 import aqario.fowlplay.common.tags.FowlPlayBiomeTags;
 import aqario.fowlplay.common.tags.FowlPlayBlockTags;
 import aqario.fowlplay.common.tags.FowlPlayEntityTypeTags;
-import aqario.fowlplay.common.tags.FowlPlayItemTags;
 import com.google.common.collect.Lists;
 import com.mojang.serialization.Dynamic;
 import net.minecraft.block.Blocks;
@@ -29,7 +29,6 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.particle.ParticleTypes;
-import net.minecraft.recipe.Ingredient;
 import net.minecraft.server.network.DebugInfoSender;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundEvent;
@@ -126,12 +125,12 @@ public class PenguinEntity extends BirdEntity {
 
     @Override
     public boolean isBreedingItem(ItemStack stack) {
-        return this.getFood().test(stack);
+        return this.getFood().matches(stack);
     }
 
     @Override
-    public Ingredient getFood() {
-        return Ingredient.fromTag(FowlPlayItemTags.PENGUIN_FOOD);
+    public FoodMatcher getFood() {
+        return FoodMatcher.PENGUIN;
     }
 
     @Override
@@ -555,14 +554,13 @@ public class PenguinEntity extends BirdEntity {
     }
 
     @Override
-    protected void mobTick() {
+    protected void tickBrain() {
         this.getWorld().getProfiler().push("penguinBrain");
         this.getBrain().tick((ServerWorld) this.getWorld(), this);
         this.getWorld().getProfiler().pop();
         this.getWorld().getProfiler().push("penguinActivityUpdate");
         PenguinBrain.reset(this);
         this.getWorld().getProfiler().pop();
-        super.mobTick();
     }
 
     @Override
@@ -1,12 +1,13 @@
 package aqario.fowlplay.common.entity;
 
 import aqario.fowlplay.common.config.FowlPlayConfig;
+import aqario.fowlplay.common.entity.ai.flock.Flock;
 import aqario.fowlplay.common.entity.data.FowlPlayTrackedDataHandlerRegistry;
+import aqario.fowlplay.common.item.FoodMatcher;
 import aqario.fowlplay.common.registry.FowlPlayRegistries;
 import aqario.fowlplay.common.registry.FowlPlayRegistryKeys;
 import aqario.fowlplay.common.sound.FowlPlaySoundEvents;
 import aqario.fowlplay.common.tags.FowlPlayEntityTypeTags;
-import aqario.fowlplay.common.tags.FowlPlayItemTags;
 import com.mojang.serialization.Dynamic;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.entity.*;
@@ -26,7 +27,6 @@ import net.minecraft.item.BundleItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.predicate.entity.EntityPredicates;
-import net.minecraft.recipe.Ingredient;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.network.DebugInfoSender;
@@ -62,6 +62,8 @@ public class PigeonEntity extends TameableBirdEntity implements VariantHolder<Re
     public final AnimationState flapState = new AnimationState();
     public final AnimationState floatState = new AnimationState();
     public final AnimationState sitState = new AnimationState();
+    @Nullable
+    private Flock flock;
 
     public PigeonEntity(EntityType<? extends PigeonEntity> entityType, World world) {
         super(entityType, world);
@@ -228,7 +230,7 @@ public class PigeonEntity extends TameableBirdEntity implements VariantHolder<Re
 
     @Override
     public boolean isBreedingItem(ItemStack stack) {
-        return !this.isTamed() && this.getFood().test(stack);
+        return !this.isTamed() && this.getFood().matches(stack);
     }
 
     @Override
@@ -241,8 +243,8 @@ public class PigeonEntity extends TameableBirdEntity implements VariantHolder<Re
     }
 
     @Override
-    public Ingredient getFood() {
-        return Ingredient.fromTag(FowlPlayItemTags.PIGEON_FOOD);
+    public FoodMatcher getFood() {
+        return FoodMatcher.PIGEON;
     }
 
     @Override
@@ -278,13 +280,17 @@ public class PigeonEntity extends TameableBirdEntity implements VariantHolder<Re
     }
 
     @Override
-    protected void mobTick() {
+    protected void tickBrain() {
         this.getWorld().getProfiler().push("pigeonBrain");
         this.getBrain().tick((ServerWorld) this.getWorld(), this);
         this.getWorld().getProfiler().pop();
         this.getWorld().getProfiler().push("pigeonActivityUpdate");
         PigeonBrain.reset(this);
         this.getWorld().getProfiler().pop();
+    }
+
+    @Override
+    protected void mobTick() {
         super.mobTick();
 
         if (this.getServer() == null) {
@@ -403,12 +409,14 @@ public class PigeonEntity extends TameableBirdEntity implements VariantHolder<Re
         DebugInfoSender.sendBrainDebugData(this);
     }
 
+    @Nullable
     @Override
-    public boolean isLeader() {
-        return false;
+    public Flock getFlock() {
+        return this.flock;
     }
 
     @Override
-    public void setLeader() {
+    public void setFlock(@Nullable Flock flock) {
+        this.flock = flock;
     }
 }
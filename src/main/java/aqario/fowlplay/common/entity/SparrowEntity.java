@@ -2,9 +2,10 @@ package aqario.fowlplay.common.entity;
 
 import aqario.fowlplay.common.config.FowlPlayConfig;
 import aqario.fowlplay.common.entity.ai.control.BirdFlightMoveControl;
+import aqario.fowlplay.common.entity.ai.flock.Flock;
+import aqario.fowlplay.common.item.FoodMatcher;
 import aqario.fowlplay.common.sound.FowlPlaySoundEvents;
 import aqario.fowlplay.common.tags.FowlPlayEntityTypeTags;
-import aqario.fowlplay.common.tags.FowlPlayItemTags;
 import com.mojang.serialization.Dynamic;
 import net.minecraft.entity.AnimationState;
 import net.minecraft.entity.EntityType;
@@ -14,7 +15,6 @@ import net.minecraft.entity.ai.pathing.PathNodeType;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.recipe.Ingredient;
 import net.minecraft.server.network.DebugInfoSender;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundEvent;
@@ -31,6 +31,8 @@ public class SparrowEntity extends FlyingBirdEntity implements Flocking {
     private int timeSinceLastFlap = this.getFlapFrequency();
     private static final int FLAP_DURATION = 6;
     private int flapTime = 0;
+    @Nullable
+    private Flock flock;
 
     public SparrowEntity(EntityType<? extends SparrowEntity> entityType, World world) {
         super(entityType, world);
@@ -59,8 +61,8 @@ public class SparrowEntity extends FlyingBirdEntity implements Flocking {
     }
 
     @Override
-    public Ingredient getFood() {
-        return Ingredient.fromTag(FowlPlayItemTags.SPARROW_FOOD);
+    public FoodMatcher getFood() {
+        return FoodMatcher.SPARROW;
     }
 
     @Override
@@ -200,14 +202,13 @@ public class SparrowEntity extends FlyingBirdEntity implements Flocking {
     }
 
     @Override
-    protected void mobTick() {
+    protected void tickBrain() {
         this.getWorld().getProfiler().push("sparrowBrain");
         this.getBrain().tick((ServerWorld) this.getWorld(), this);
         this.getWorld().getProfiler().pop();
         this.getWorld().getProfiler().push("sparrowActivityUpdate");
         SparrowBrain.reset(this);
         this.getWorld().getProfiler().pop();
-        super.mobTick();
     }
 
     @Override
@@ -216,12 +217,14 @@ public class SparrowEntity extends FlyingBirdEntity implements Flocking {
         DebugInfoSender.sendBrainDebugData(this);
     }
 
+    @Nullable
     @Override
-    public boolean isLeader() {
-        return false;
+    public Flock getFlock() {
+        return this.flock;
     }
 
     @Override
-    public void setLeader() {
+    public void setFlock(@Nullable Flock flock) {
+        this.flock = flock;
     }
 }
@@ -134,6 +134,12 @@ public abstract class TameableBirdEntity extends TrustingBirdEntity implements T
         }
     }
 
+    @Override
+    public boolean requiresFullAi() {
+        // tamed birds follow their owners and deliver to recipients that may be far away
+        return super.requiresFullAi() || this.isTamed();
+    }
+
     @Override
     public boolean damage(DamageSource source, float amount) {
         if (!this.getWorld().isClient && !this.isInvulnerableTo(source)) {
@@ -0,0 +1,19 @@
+package aqario.fowlplay.common.entity.ai.brain;
+
+/**
+ * How much of a bird's AI is ticked, chosen by {@link BirdBrainScheduler} from its distance to the nearest player.
+ */
+public enum AiDetailLevel {
+    /**
+     * The brain is ticked every tick.
+     */
+    FULL,
+    /**
+     * The brain, and therefore its sensors and tasks, is only ticked every few ticks.
+     */
+    REDUCED,
+    /**
+     * The brain is not ticked at all; only movement and physics are.
+     */
+    MINIMAL
+}
@@ -0,0 +1,129 @@
+package aqario.fowlplay.common.entity.ai.brain;
+
+import aqario.fowlplay.common.config.FowlPlayConfig;
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSet;
+import net.minecraft.server.world.ServerWorld;
+
+/**
+ * A per-world time budget for bird brain ticks.
+ * <p>
+ * Once the time spent ticking brains in a world tick exceeds the budget, the remaining birds are deferred.
+ * Birds are serviced in rounds: while some birds are still waiting for their turn in the current round,
+ * birds that already had theirs step aside, so deferred birds are serviced first on the following ticks.
+ */
+public class BirdBrainBudget {
+    // a bird deferred for this many server ticks is serviced regardless of the budget
+    private static final int MAX_DEFERRED_TICKS = 20;
+    private final ServerWorld world;
+    // birds deferred before their turn in the current round, which stays open until they have all had it
+    private final ReferenceSet<BrainTickState> waiting = new ReferenceOpenHashSet<>();
+    private int lastTick = -1;
+    private long budgetNanos;
+    private long spentNanos;
+    private long round;
+    private int deferred;
+    private int lastDeferred;
+    private int lastMaxDeferredTicks;
+    private int maxDeferredTicks;
+    private long totalDeferred;
+
+    public BirdBrainBudget(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static BirdBrainBudget get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getBirdBrainBudget();
+    }
+
+    private void update() {
+        int tick = this.world.getServer().getTicks();
+        if (tick == this.lastTick) {
+            return;
+        }
+        this.lastTick = tick;
+        FowlPlayConfig config = FowlPlayConfig.getInstance();
+        // a bird that stopped asking for brain ticks, by unloading, hibernating or moving out of range,
+        // would otherwise keep the round open forever
+        int maxWait = MAX_DEFERRED_TICKS + Math.max(1, config.reducedAiTickInterval);
+        this.waiting.removeIf(state -> {
+            if (tick - state.deferredSince > maxWait) {
+                state.deferredSince = -1;
+                return true;
+            }
+            return false;
+        });
+        if (this.waiting.isEmpty()) {
+            this.round++;
+        }
+        this.lastDeferred = this.deferred;
+        this.lastMaxDeferredTicks = this.maxDeferredTicks;
+        this.deferred = 0;
+        this.maxDeferredTicks = 0;
+        this.spentNanos = 0;
+        this.budgetNanos = config.aiTickBudget * 1_000_000L;
+    }
+
+    /**
+     * @return whether the bird may tick its brain this tick; if so, {@link #finish} must be called afterward
+     */
+    public boolean tryStart(BrainTickState state) {
+        this.update();
+        if (this.budgetNanos <= 0) {
+            return true;
+        }
+        int deferredTicks = state.deferredSince < 0 ? 0 : this.lastTick - state.deferredSince;
+        if (deferredTicks >= MAX_DEFERRED_TICKS) {
+            return true;
+        }
+        boolean hadTurn = state.servicedRound == this.round;
+        boolean backlog = !this.waiting.isEmpty();
+        if (this.spentNanos < this.budgetNanos && !(backlog && hadTurn)) {
+            return true;
+        }
+        if (state.deferredSince < 0) {
+            state.deferredSince = this.lastTick;
+        }
+        if (!hadTurn) {
+            this.waiting.add(state);
+        }
+        this.deferred++;
+        this.totalDeferred++;
+        this.maxDeferredTicks = Math.max(this.maxDeferredTicks, deferredTicks);
+        this.world.getProfiler().visit("deferredBirdBrainTick");
+        return false;
+    }
+
+    public void finish(BrainTickState state, long nanos) {
+        this.spentNanos += nanos;
+        state.servicedRound = this.round;
+        state.deferredSince = -1;
+        this.waiting.remove(state);
+    }
+
+    /**
+     * @return the time in nanoseconds spent ticking brains so far this tick
+     */
+    public long getSpentNanos() {
+        return this.lastTick == this.world.getServer().getTicks() ? this.spentNanos : 0;
+    }
+
+    /**
+     * @return the number of birds whose brain tick was deferred during the last complete tick
+     */
+    public int getDeferredCount() {
+        return this.lastDeferred;
+    }
+
+    /**
+     * @return the longest any bird deferred during the last complete tick had been waiting, in server ticks
+     */
+    public int getMaxDeferredTicks() {
+        return this.lastMaxDeferredTicks;
+    }
+
+    public long getTotalDeferredCount() {
+        return this.totalDeferred;
+    }
+}
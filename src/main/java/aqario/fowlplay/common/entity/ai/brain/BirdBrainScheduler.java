@@ -0,0 +1,79 @@
+package aqario.fowlplay.common.entity.ai.brain;
+
+import aqario.fowlplay.common.config.FowlPlayConfig;
+import aqario.fowlplay.common.entity.BirdEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+/**
+ * Decides on which ticks a bird's brain is ticked.
+ */
+public final class BirdBrainScheduler {
+    private static final int DETAIL_LEVEL_UPDATE_INTERVAL = 20;
+    // idle birds that aren't perching have to stay idle for this many detail level updates before hibernating
+    private static final int IDLE_CHECKS_BEFORE_HIBERNATING = 3;
+    private static final int MIN_HIBERNATION_TICKS = 600;
+    private static final int MAX_HIBERNATION_TICKS = 1200;
+
+    public static boolean shouldTickBrain(BirdEntity bird) {
+        ServerWorld world = (ServerWorld) bird.getWorld();
+        BrainTickState state = bird.getBrainTickState();
+        BirdWakeRegistry wakeRegistry = BirdWakeRegistry.get(world);
+        wakeRegistry.update();
+        // offset by id so that birds don't all update on the same tick
+        long time = world.getTime() + bird.getId();
+        if (state.dormant) {
+            if (world.getTime() < state.dormantUntil && bird.getBlockPos().asLong() == state.dormantPos) {
+                return false;
+            }
+            wakeRegistry.wake(bird);
+        }
+        if (time % DETAIL_LEVEL_UPDATE_INTERVAL == 0) {
+            updateDetailLevel(bird);
+            if (shouldHibernate(bird, state)) {
+                int duration = MIN_HIBERNATION_TICKS + bird.getRandom().nextInt(MAX_HIBERNATION_TICKS - MIN_HIBERNATION_TICKS);
+                wakeRegistry.hibernate(bird, world.getTime() + duration);
+                return false;
+            }
+        }
+        return switch (state.detailLevel) {
+            case FULL -> true;
+            case REDUCED -> time % state.reducedTickInterval == 0;
+            case MINIMAL -> false;
+        };
+    }
+
+    private static boolean shouldHibernate(BirdEntity bird, BrainTickState state) {
+        if (!bird.canHibernate() || bird.getWorld().isPlayerInRange(bird.getX(), bird.getY(), bird.getZ(), BirdWakeRegistry.WAKE_RADIUS)) {
+            state.idleChecks = 0;
+            return false;
+        }
+        state.idleChecks++;
+        return Birds.isPerching(bird) || state.idleChecks >= IDLE_CHECKS_BEFORE_HIBERNATING;
+    }
+
+    private static void updateDetailLevel(BirdEntity bird) {
+        FowlPlayConfig config = FowlPlayConfig.getInstance();
+        BrainTickState state = bird.getBrainTickState();
+        state.reducedTickInterval = Math.max(1, config.reducedAiTickInterval);
+        if (bird.requiresFullAi()) {
+            state.detailLevel = AiDetailLevel.FULL;
+            return;
+        }
+        PlayerEntity player = bird.getWorld().getClosestPlayer(bird, -1.0);
+        if (player == null) {
+            state.detailLevel = AiDetailLevel.MINIMAL;
+            return;
+        }
+        double distance = player.squaredDistanceTo(bird);
+        if (distance < config.fullAiDistance * config.fullAiDistance) {
+            state.detailLevel = AiDetailLevel.FULL;
+        }
+        else if (distance < config.reducedAiDistance * config.reducedAiDistance) {
+            state.detailLevel = AiDetailLevel.REDUCED;
+        }
+        else {
+            state.detailLevel = AiDetailLevel.MINIMAL;
+        }
+    }
+}
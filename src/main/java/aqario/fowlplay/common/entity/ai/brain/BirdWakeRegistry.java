@@ -0,0 +1,153 @@
+package aqario.fowlplay.common.entity.ai.brain;
+
+import aqario.fowlplay.common.entity.BirdEntity;
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Keeps track of the hibernating birds in a world and wakes them up when something happens near them:
+ * a player comes close, food is dropped nearby, they or a neighbour are hurt, or the block they stand on changes.
+ */
+public class BirdWakeRegistry {
+    public static final int WAKE_RADIUS = 16;
+    private static final int CLEANUP_INTERVAL = 100;
+    private final ServerWorld world;
+    private final Long2ObjectMap<List<BirdEntity>> sections = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<List<BirdEntity>> positions = new Long2ObjectOpenHashMap<>();
+    private int lastTick = -1;
+
+    public BirdWakeRegistry(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static BirdWakeRegistry get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getBirdWakeRegistry();
+    }
+
+    /**
+     * Wakes birds near players, once per tick.
+     */
+    public void update() {
+        int tick = this.world.getServer().getTicks();
+        if (tick == this.lastTick) {
+            return;
+        }
+        this.lastTick = tick;
+        if (this.positions.isEmpty()) {
+            return;
+        }
+        for (PlayerEntity player : this.world.getPlayers()) {
+            if (!player.isSpectator()) {
+                this.wakeNear(player.getPos(), WAKE_RADIUS);
+            }
+        }
+        if (tick % CLEANUP_INTERVAL == 0) {
+            List<BirdEntity> removed = new ArrayList<>();
+            this.positions.values().forEach(birds -> birds.stream().filter(BirdEntity::isRemoved).forEach(removed::add));
+            removed.forEach(this::wake);
+        }
+    }
+
+    public void hibernate(BirdEntity bird, long until) {
+        BrainTickState state = bird.getBrainTickState();
+        if (state.dormant) {
+            return;
+        }
+        state.dormant = true;
+        state.dormantUntil = until;
+        state.dormantPos = bird.getBlockPos().asLong();
+        this.sections.computeIfAbsent(sectionKey(bird.getBlockPos()), key -> new ArrayList<>()).add(bird);
+        this.positions.computeIfAbsent(state.dormantPos, key -> new ArrayList<>()).add(bird);
+    }
+
+    public void wake(BirdEntity bird) {
+        BrainTickState state = bird.getBrainTickState();
+        if (!state.dormant) {
+            return;
+        }
+        state.dormant = false;
+        state.idleChecks = 0;
+        remove(this.sections, sectionKey(BlockPos.fromLong(state.dormantPos)), bird);
+        remove(this.positions, state.dormantPos, bird);
+    }
+
+    public void wakeNear(Vec3d pos, double radius) {
+        this.wakeNear(pos, radius, bird -> true);
+    }
+
+    public void wakeNear(Vec3d pos, double radius, Predicate<BirdEntity> predicate) {
+        if (this.sections.isEmpty()) {
+            return;
+        }
+        List<BirdEntity> woken = new ArrayList<>();
+        int minX = ChunkSectionPos.getSectionCoordFloored(pos.x - radius);
+        int minY = ChunkSectionPos.getSectionCoordFloored(pos.y - radius);
+        int minZ = ChunkSectionPos.getSectionCoordFloored(pos.z - radius);
+        int maxX = ChunkSectionPos.getSectionCoordFloored(pos.x + radius);
+        int maxY = ChunkSectionPos.getSectionCoordFloored(pos.y + radius);
+        int maxZ = ChunkSectionPos.getSectionCoordFloored(pos.z + radius);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    List<BirdEntity> birds = this.sections.get(ChunkSectionPos.asLong(x, y, z));
+                    if (birds == null) {
+                        continue;
+                    }
+                    for (BirdEntity bird : birds) {
+                        if (bird.squaredDistanceTo(pos) <= radius * radius && predicate.test(bird)) {
+                            woken.add(bird);
+                        }
+                    }
+                }
+            }
+        }
+        woken.forEach(this::wake);
+    }
+
+    /**
+     * Wakes birds standing in or on the changed block.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        if (this.positions.isEmpty()) {
+            return;
+        }
+        List<BirdEntity> woken = new ArrayList<>();
+        List<BirdEntity> inside = this.positions.get(pos.asLong());
+        if (inside != null) {
+            woken.addAll(inside);
+        }
+        List<BirdEntity> above = this.positions.get(pos.up().asLong());
+        if (above != null) {
+            woken.addAll(above);
+        }
+        woken.forEach(this::wake);
+    }
+
+    private static long sectionKey(BlockPos pos) {
+        return ChunkSectionPos.asLong(
+            ChunkSectionPos.getSectionCoord(pos.getX()),
+            ChunkSectionPos.getSectionCoord(pos.getY()),
+            ChunkSectionPos.getSectionCoord(pos.getZ())
+        );
+    }
+
+    private static void remove(Long2ObjectMap<List<BirdEntity>> map, long key, BirdEntity bird) {
+        List<BirdEntity> birds = map.get(key);
+        if (birds != null) {
+            birds.remove(bird);
+            if (birds.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+}
@@ -5,11 +5,10 @@ import aqario.fowlplay.common.tags.FowlPlayBlockTags;
 import net.minecraft.entity.ItemEntity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.brain.Brain;
-import net.minecraft.entity.ai.brain.LivingTargetCache;
 import net.minecraft.entity.ai.brain.MemoryModuleType;
-import net.minecraft.predicate.entity.EntityPredicates;
 import net.minecraft.util.math.intprovider.UniformIntProvider;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,18 +28,18 @@ public final class Birds {
         if (!brain.hasMemoryModule(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM)) {
             return false;
         }
-        Optional<LivingTargetCache> visibleMobs = brain.getOptionalMemory(MemoryModuleType.VISIBLE_MOBS);
-        if (visibleMobs == null || visibleMobs.isEmpty()) {
+        Optional<List<LivingEntity>> avoidables = brain.getOptionalRegisteredMemory(FowlPlayMemoryModuleType.VISIBLE_AVOIDABLES);
+        if (avoidables.isEmpty()) {
             return false;
         }
         ItemEntity wantedItem = brain.getOptionalMemory(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM).get();
-        Optional<LivingEntity> avoidTarget = visibleMobs.get().stream(entity -> true)
-            .filter(bird::shouldAvoid)
-            .filter(EntityPredicates.EXCEPT_CREATIVE_OR_SPECTATOR)
-            .filter(entity -> entity.isInRange(wantedItem, bird.getFleeRange()))
-            .findFirst();
+        for (LivingEntity entity : avoidables.get()) {
+            if (entity.isInRange(wantedItem, bird.getFleeRange())) {
+                return false;
+            }
+        }
 
-        return !bird.getFood().test(bird.getMainHandStack()) && avoidTarget.isEmpty();
+        return !bird.getFood().matches(bird.getMainHandStack());
     }
 
     public static boolean isPerching(BirdEntity entity) {
@@ -0,0 +1,34 @@
+package aqario.fowlplay.common.entity.ai.brain;
+
+/**
+ * Per-bird bookkeeping for the {@link BirdBrainScheduler} and {@link BirdBrainBudget}.
+ */
+public class BrainTickState {
+    AiDetailLevel detailLevel = AiDetailLevel.FULL;
+    int reducedTickInterval = 1;
+    long servicedRound = -1;
+    // the server tick this bird's brain tick was first deferred on, or -1 if it isn't deferred
+    int deferredSince = -1;
+    boolean dormant;
+    long dormantUntil;
+    long dormantPos;
+    int idleChecks;
+
+    public AiDetailLevel getDetailLevel() {
+        return this.detailLevel;
+    }
+
+    /**
+     * @return whether this bird is hibernating, skipping its brain ticks until the {@link BirdWakeRegistry} wakes it
+     */
+    public boolean isDormant() {
+        return this.dormant;
+    }
+
+    /**
+     * @return whether this bird's brain tick is deferred until it is next serviced
+     */
+    public boolean isDeferred() {
+        return this.deferredSince >= 0;
+    }
+}
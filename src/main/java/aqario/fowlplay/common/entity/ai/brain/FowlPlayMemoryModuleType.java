@@ -1,7 +1,9 @@
 package aqario.fowlplay.common.entity.ai.brain;
 
 import aqario.fowlplay.common.FowlPlay;
+import aqario.fowlplay.common.entity.ai.pathing.PendingPath;
 import com.mojang.serialization.Codec;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.brain.MemoryModuleType;
 import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.registry.Registries;
@@ -16,11 +18,13 @@ import java.util.UUID;
 
 public final class FowlPlayMemoryModuleType {
     public static final MemoryModuleType<List<? extends PassiveEntity>> NEAREST_VISIBLE_ADULTS = register("nearest_visible_adults");
+    public static final MemoryModuleType<List<LivingEntity>> VISIBLE_AVOIDABLES = register("visible_avoidables");
     public static final MemoryModuleType<Boolean> SEES_FOOD = register("sees_food", Codec.BOOL);
     public static final MemoryModuleType<Boolean> CANNOT_PICKUP_FOOD = register("cannot_eat_food", Codec.BOOL);
     public static final MemoryModuleType<Unit> IS_FLYING = register("is_flying", Unit.CODEC);
     public static final MemoryModuleType<Unit> IS_AVOIDING = register("is_avoiding", Unit.CODEC);
     public static final MemoryModuleType<TeleportTarget> TELEPORT_TARGET = register("teleport_target");
+    public static final MemoryModuleType<PendingPath> PENDING_PATH = register("pending_path");
     public static final MemoryModuleType<UUID> RECIPIENT = register("recipient", Uuids.INT_STREAM_CODEC);
 
     private static <U> MemoryModuleType<U> register(String id, Codec<U> codec) {
@@ -0,0 +1,102 @@
+package aqario.fowlplay.common.entity.ai.brain;
+
+import aqario.fowlplay.common.entity.BirdEntity;
+import aqario.fowlplay.common.world.BirdSpatialIndex;
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.TargetPredicate;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Works out which players are tempting which birds from the players' side, once per tick.
+ * Each player's held items are tested against the food of each bird type near them only once,
+ * and the nearest player that tempts each bird, and that the bird may target, is pushed to it.
+ */
+public class TemptingPlayerTracker {
+    public static final int TEMPT_RANGE = 32;
+    private static final TargetPredicate TEMPTER_PREDICATE = TargetPredicate.createNonAttackable()
+        .setBaseMaxDistance(TEMPT_RANGE)
+        .ignoreVisibility();
+    private final ServerWorld world;
+    private final Object2ObjectMap<BirdEntity, PlayerEntity> temptingPlayers = new Object2ObjectOpenHashMap<>();
+    private final Object2BooleanMap<EntityType<?>> holdsFood = new Object2BooleanOpenHashMap<>();
+    private final List<LivingEntity> nearbyBirds = new ArrayList<>();
+    private int lastTick = -1;
+
+    public TemptingPlayerTracker(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static TemptingPlayerTracker get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getTemptingPlayerTracker();
+    }
+
+    /**
+     * @return the nearest player within {@link #TEMPT_RANGE} holding food the bird eats and not riding it, as of this tick
+     */
+    @Nullable
+    public PlayerEntity getTemptingPlayer(BirdEntity bird) {
+        this.update();
+        return this.temptingPlayers.get(bird);
+    }
+
+    private void update() {
+        int tick = this.world.getServer().getTicks();
+        if (tick == this.lastTick) {
+            return;
+        }
+        this.lastTick = tick;
+        this.temptingPlayers.clear();
+        this.world.getProfiler().push("temptingPlayers");
+        for (PlayerEntity player : this.world.getPlayers()) {
+            if (player.isSpectator() || !player.isAlive()) {
+                continue;
+            }
+            ItemStack mainHand = player.getMainHandStack();
+            ItemStack offHand = player.getOffHandStack();
+            if (mainHand.isEmpty() && offHand.isEmpty()) {
+                continue;
+            }
+            this.holdsFood.clear();
+            this.nearbyBirds.clear();
+            BirdSpatialIndex.get(this.world).collect(
+                player.getBoundingBox().expand(TEMPT_RANGE),
+                living -> living instanceof BirdEntity,
+                this.nearbyBirds
+            );
+            for (LivingEntity living : this.nearbyBirds) {
+                BirdEntity bird = (BirdEntity) living;
+                if (!bird.isInRange(player, TEMPT_RANGE)) {
+                    continue;
+                }
+                if (!this.holdsFood.containsKey(bird.getType())) {
+                    this.holdsFood.put(bird.getType(), bird.getFood().matches(mainHand) || bird.getFood().matches(offHand));
+                }
+                if (!this.holdsFood.getBoolean(bird.getType())) {
+                    continue;
+                }
+                PlayerEntity current = this.temptingPlayers.get(bird);
+                if (current != null && bird.squaredDistanceTo(player) >= bird.squaredDistanceTo(current)) {
+                    continue;
+                }
+                // tested last as it's the costliest, so a closer player that fails it doesn't hide one further away
+                if (!bird.hasPassenger(player) && TEMPTER_PREDICATE.test(bird, player)) {
+                    this.temptingPlayers.put(bird, player);
+                }
+            }
+        }
+        this.nearbyBirds.clear();
+        this.world.getProfiler().pop();
+    }
+}
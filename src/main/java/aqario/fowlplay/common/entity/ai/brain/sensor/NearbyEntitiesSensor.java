@@ -0,0 +1,155 @@
+package aqario.fowlplay.common.entity.ai.brain.sensor;
+
+import aqario.fowlplay.common.entity.BirdEntity;
+import aqario.fowlplay.common.entity.ai.brain.TemptingPlayerTracker;
+import aqario.fowlplay.common.world.BirdSpatialIndex;
+import aqario.fowlplay.common.world.FoodReservationTable;
+import aqario.fowlplay.common.world.LineOfSightCache;
+import aqario.fowlplay.common.world.WantedItemIndex;
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.brain.Brain;
+import net.minecraft.entity.ai.brain.EntityLookTarget;
+import net.minecraft.entity.ai.brain.LivingTargetCache;
+import net.minecraft.entity.ai.brain.MemoryModuleType;
+import net.minecraft.entity.ai.brain.WalkTarget;
+import net.minecraft.entity.ai.brain.sensor.Sensor;
+import net.minecraft.entity.passive.PassiveEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Gathers the entities around a bird from the spatial index once, and fills the memories
+ * of the vanilla player, item and adult sensors as well as the nearby mobs and tempting player.
+ * Wanted items are looked up in the world's {@link WantedItemIndex} instead, skipping those claimed by other birds.
+ */
+public class NearbyEntitiesSensor extends Sensor<BirdEntity> {
+    private static final int MOB_RANGE = 32;
+    private static final double PLAYER_RANGE = 16.0;
+    private static final int ITEM_HORIZONTAL_RANGE = 32;
+    private static final int ITEM_VERTICAL_RANGE = 16;
+    // past this many hidden items, the bird gives up on food until its next sense pass
+    private static final int MAX_ITEM_SIGHT_CHECKS = 4;
+
+    @Override
+    public Set<MemoryModuleType<?>> getOutputMemoryModules() {
+        return ImmutableSet.of(
+            MemoryModuleType.MOBS,
+            MemoryModuleType.VISIBLE_MOBS,
+            MemoryModuleType.NEAREST_PLAYERS,
+            MemoryModuleType.NEAREST_VISIBLE_PLAYER,
+            MemoryModuleType.NEAREST_VISIBLE_TARGETABLE_PLAYER,
+            MemoryModuleType.TEMPTING_PLAYER,
+            MemoryModuleType.NEAREST_VISIBLE_ADULT,
+            MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM
+        );
+    }
+
+    @Override
+    protected void sense(ServerWorld world, BirdEntity bird) {
+        Box box = bird.getBoundingBox().expand(MOB_RANGE, MOB_RANGE, MOB_RANGE);
+        List<LivingEntity> mobs = new ArrayList<>();
+        BirdSpatialIndex.get(world).collect(box, living -> living != bird, mobs);
+        mobs.sort(Comparator.comparingDouble(bird::squaredDistanceTo));
+        Brain<?> brain = bird.getBrain();
+        LivingTargetCache visibleMobs = new LivingTargetCache(bird, mobs);
+        brain.remember(MemoryModuleType.MOBS, mobs);
+        brain.remember(MemoryModuleType.VISIBLE_MOBS, visibleMobs);
+
+        this.sensePlayers(brain, bird, mobs);
+        this.senseTemptingPlayer(world, brain, bird);
+        brain.remember(MemoryModuleType.NEAREST_VISIBLE_ADULT, visibleMobs.findFirst(living -> living.getType() == bird.getType()
+                && living instanceof PassiveEntity passive
+                && !passive.isBaby())
+            .map(PassiveEntity.class::cast));
+        this.renewItemClaim(world, brain, bird);
+        brain.remember(MemoryModuleType.NEAREST_VISIBLE_WANTED_ITEM, this.findWantedItem(world, bird));
+    }
+
+    /**
+     * Keeps the bird's claim on an item only while it is walking to that item.
+     */
+    private void renewItemClaim(ServerWorld world, Brain<?> brain, BirdEntity bird) {
+        FoodReservationTable reservations = FoodReservationTable.get(world);
+        Optional<WalkTarget> walkTarget = brain.getOptionalRegisteredMemory(MemoryModuleType.WALK_TARGET);
+        if (walkTarget.isPresent()
+            && walkTarget.get().getLookTarget() instanceof EntityLookTarget lookTarget
+            && lookTarget.getEntity() instanceof ItemEntity item) {
+            reservations.renew(bird, item);
+        }
+        else {
+            reservations.release(bird);
+        }
+    }
+
+    private void sensePlayers(Brain<?> brain, BirdEntity bird, List<LivingEntity> mobs) {
+        List<PlayerEntity> nearestPlayers = new ArrayList<>();
+        PlayerEntity visiblePlayer = null;
+        PlayerEntity targetablePlayer = null;
+        // mobs are already sorted by distance, so the first match of each kind is the nearest
+        for (LivingEntity living : mobs) {
+            if (!(living instanceof PlayerEntity player) || player.isSpectator()) {
+                continue;
+            }
+            if (!bird.isInRange(player, PLAYER_RANGE)) {
+                break;
+            }
+            nearestPlayers.add(player);
+            if (testTargetPredicate(bird, player)) {
+                if (visiblePlayer == null) {
+                    visiblePlayer = player;
+                }
+                if (targetablePlayer == null && testAttackableTargetPredicate(bird, player)) {
+                    targetablePlayer = player;
+                }
+            }
+        }
+        brain.remember(MemoryModuleType.NEAREST_PLAYERS, nearestPlayers);
+        brain.remember(MemoryModuleType.NEAREST_VISIBLE_PLAYER, Optional.ofNullable(visiblePlayer));
+        brain.remember(MemoryModuleType.NEAREST_VISIBLE_TARGETABLE_PLAYER, Optional.ofNullable(targetablePlayer));
+    }
+
+    private void senseTemptingPlayer(ServerWorld world, Brain<?> brain, BirdEntity bird) {
+        PlayerEntity player = TemptingPlayerTracker.get(world).getTemptingPlayer(bird);
+        if (player != null) {
+            brain.remember(MemoryModuleType.TEMPTING_PLAYER, player);
+        }
+        else {
+            brain.forget(MemoryModuleType.TEMPTING_PLAYER);
+        }
+    }
+
+    private Optional<ItemEntity> findWantedItem(ServerWorld world, BirdEntity bird) {
+        WantedItemIndex index = WantedItemIndex.get(world);
+        FoodReservationTable reservations = FoodReservationTable.get(world);
+        LineOfSightCache lineOfSight = LineOfSightCache.get(world);
+        List<ItemEntity> hidden = new ArrayList<>();
+        for (int i = 0; i < MAX_ITEM_SIGHT_CHECKS; i++) {
+            ItemEntity item = index.findNearest(
+                bird.getFood(),
+                bird,
+                ITEM_HORIZONTAL_RANGE,
+                ITEM_VERTICAL_RANGE,
+                candidate -> bird.canGather(candidate.getStack())
+                    && !reservations.isClaimedByOther(bird, candidate)
+                    && !hidden.contains(candidate)
+            );
+            if (item == null) {
+                break;
+            }
+            if (lineOfSight.canSee(bird, item)) {
+                return Optional.of(item);
+            }
+            hidden.add(item);
+        }
+        return Optional.empty();
+    }
+}
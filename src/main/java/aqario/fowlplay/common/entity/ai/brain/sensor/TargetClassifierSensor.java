@@ -0,0 +1,93 @@
+package aqario.fowlplay.common.entity.ai.brain.sensor;
+
+import aqario.fowlplay.common.entity.BirdEntity;
+import aqario.fowlplay.common.entity.TrustingBirdEntity;
+import aqario.fowlplay.common.entity.ai.brain.FowlPlayMemoryModuleType;
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.brain.Brain;
+import net.minecraft.entity.ai.brain.LivingTargetCache;
+import net.minecraft.entity.ai.brain.MemoryModuleType;
+import net.minecraft.entity.ai.brain.sensor.Sensor;
+import net.minecraft.entity.passive.PassiveEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.predicate.entity.EntityPredicates;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Sorts the visible mobs of a bird into the entities it avoids, attacks, hunts and flocks with, in a single pass.
+ */
+public class TargetClassifierSensor extends Sensor<BirdEntity> {
+    @Override
+    public Set<MemoryModuleType<?>> getOutputMemoryModules() {
+        return ImmutableSet.of(
+            MemoryModuleType.AVOID_TARGET,
+            MemoryModuleType.NEAREST_ATTACKABLE,
+            FowlPlayMemoryModuleType.VISIBLE_AVOIDABLES,
+            FowlPlayMemoryModuleType.NEAREST_VISIBLE_ADULTS
+        );
+    }
+
+    @Override
+    protected void sense(ServerWorld world, BirdEntity bird) {
+        Brain<?> brain = bird.getBrain();
+        Optional<LivingTargetCache> visibleMobs = brain.getOptionalRegisteredMemory(MemoryModuleType.VISIBLE_MOBS);
+        if (visibleMobs.isEmpty()) {
+            brain.forget(MemoryModuleType.AVOID_TARGET);
+            brain.forget(MemoryModuleType.NEAREST_ATTACKABLE);
+            brain.forget(FowlPlayMemoryModuleType.VISIBLE_AVOIDABLES);
+            brain.remember(FowlPlayMemoryModuleType.NEAREST_VISIBLE_ADULTS, new ArrayList<PassiveEntity>());
+            return;
+        }
+        Optional<LivingEntity> attackTarget = brain.getOptionalRegisteredMemory(MemoryModuleType.ATTACK_TARGET);
+        boolean canHunt = !brain.hasMemoryModule(MemoryModuleType.HAS_HUNTING_COOLDOWN);
+        LivingEntity avoidTarget = null;
+        LivingEntity attackable = null;
+        LivingEntity huntable = null;
+        List<LivingEntity> avoidables = new ArrayList<>();
+        List<PassiveEntity> adults = new ArrayList<>();
+
+        // visible mobs are sorted by distance, so the first match of each kind is the nearest
+        for (LivingEntity entity : visibleMobs.get().iterate(entity -> true)) {
+            if (entity.getType() == bird.getType() && !bird.isBaby()) {
+                adults.add((PassiveEntity) entity);
+            }
+            if (!EntityPredicates.EXCEPT_CREATIVE_OR_SPECTATOR.test(entity)) {
+                continue;
+            }
+            if (bird.shouldAvoid(entity)) {
+                avoidables.add(entity);
+                if (avoidTarget == null && !isTrusted(bird, entity) && !attackTarget.map(entity::equals).orElse(false)) {
+                    avoidTarget = entity;
+                }
+            }
+            if (attackable != null) {
+                continue;
+            }
+            boolean attacks = bird.canAttack(entity);
+            boolean hunts = huntable == null && canHunt && bird.canHunt(entity);
+            if ((attacks || hunts) && Sensor.testAttackableTargetPredicate(bird, entity)) {
+                if (attacks) {
+                    attackable = entity;
+                }
+                else {
+                    huntable = entity;
+                }
+            }
+        }
+
+        brain.remember(MemoryModuleType.AVOID_TARGET, Optional.ofNullable(avoidTarget));
+        brain.remember(MemoryModuleType.NEAREST_ATTACKABLE, Optional.ofNullable(attackable != null ? attackable : huntable));
+        brain.remember(FowlPlayMemoryModuleType.VISIBLE_AVOIDABLES, avoidables);
+        brain.remember(FowlPlayMemoryModuleType.NEAREST_VISIBLE_ADULTS, adults);
+    }
+
+    private static boolean isTrusted(BirdEntity bird, LivingEntity entity) {
+        return entity instanceof PlayerEntity player && bird instanceof TrustingBirdEntity trusting && trusting.trusts(player);
+    }
+}
@@ -1,16 +1,16 @@
 package aqario.fowlplay.common.entity.ai.brain.task;
 
 import aqario.fowlplay.common.entity.FlyingBirdEntity;
-import net.minecraft.block.BlockState;
+import aqario.fowlplay.common.world.PerchSiteIndex;
 import net.minecraft.entity.ai.FuzzyTargeting;
 import net.minecraft.entity.ai.brain.MemoryModuleType;
 import net.minecraft.entity.ai.brain.WalkTarget;
 import net.minecraft.entity.ai.brain.task.SingleTickTask;
 import net.minecraft.entity.ai.brain.task.Task;
 import net.minecraft.entity.ai.brain.task.TaskTriggerer;
-import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import org.jetbrains.annotations.Nullable;
@@ -46,28 +46,21 @@ public class FlyTask {
 
     @Nullable
     private static Vec3d findTreePos(FlyingBirdEntity entity) {
-        BlockPos entityPos = entity.getBlockPos();
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-        BlockPos.Mutable mutable2 = new BlockPos.Mutable();
-
-        for (BlockPos targetPos : BlockPos.iterate(
+        BlockBox bounds = new BlockBox(
             MathHelper.floor(entity.getX() - 12.0),
             MathHelper.floor(entity.getY() + 4.0),
             MathHelper.floor(entity.getZ() - 12.0),
             MathHelper.floor(entity.getX() + 12.0),
             MathHelper.floor(entity.getY() + 20.0),
             MathHelper.floor(entity.getZ() + 12.0)
-        )) {
-            if (!entityPos.equals(targetPos)) {
-                BlockState state = entity.getWorld().getBlockState(mutable2.set(targetPos, Direction.DOWN));
-                boolean validBlock = state.isIn(BlockTags.LEAVES) || state.isIn(BlockTags.LOGS);
-                if (validBlock && entity.getWorld().isAir(targetPos)
-                    && (entity.getBoundingBox().getLengthY() <= 1
-                    || entity.getWorld().isAir(mutable.set(targetPos, Direction.UP)))
-                ) {
-                    return Vec3d.ofBottomCenter(targetPos);
-                }
-            }
+        );
+        BlockPos perch = PerchSiteIndex.get((ServerWorld) entity.getWorld()).findNearest(
+            entity.getPos(),
+            bounds,
+            entity.getBoundingBox().getLengthY() > 1
+        );
+        if (perch != null) {
+            return Vec3d.ofBottomCenter(perch);
         }
 
         return FuzzyTargeting.find(entity, 16, 16);
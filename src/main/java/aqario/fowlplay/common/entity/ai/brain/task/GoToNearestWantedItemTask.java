@@ -1,5 +1,6 @@
 package aqario.fowlplay.common.entity.ai.brain.task;
 
+import aqario.fowlplay.common.world.FoodReservationTable;
 import com.mojang.datafixers.kinds.K1;
 import net.minecraft.entity.ItemEntity;
 import net.minecraft.entity.LivingEntity;
@@ -14,7 +15,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
- * Improved {@link net.minecraft.entity.ai.brain.task.WalkToNearestVisibleWantedItemTask WalkToNearestVisibleWantedItemTask} with a speedGetter
+ * Improved {@link net.minecraft.entity.ai.brain.task.WalkToNearestVisibleWantedItemTask WalkToNearestVisibleWantedItemTask} with a speedGetter,
+ * which claims the item in the world's {@link FoodReservationTable} so other birds go for other items
  */
 public class GoToNearestWantedItemTask {
     public static <E extends LivingEntity> Task<E> create(Predicate<E> startPredicate, Function<E, Float> entitySpeedGetter, boolean requiresWalkTarget, int radius) {
@@ -36,7 +38,8 @@ public class GoToNearestWantedItemTask {
                             if (instance.getOptionalValue(pickupCooldownTicks).isEmpty()
                                 && startPredicate.test(entity)
                                 && itemEntity.isInRange(entity, radius)
-                                && entity.getWorld().getWorldBorder().contains(itemEntity.getBlockPos())) {
+                                && entity.getWorld().getWorldBorder().contains(itemEntity.getBlockPos())
+                                && FoodReservationTable.get(world).tryClaim(entity, itemEntity)) {
                                 WalkTarget newWalkTarget = new WalkTarget(new EntityLookTarget(itemEntity, false), entitySpeedGetter.apply(entity), 0);
                                 lookTarget.remember(new EntityLookTarget(itemEntity, true));
                                 walkTarget.remember(newWalkTarget);
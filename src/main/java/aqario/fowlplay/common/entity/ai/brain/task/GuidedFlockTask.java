@@ -3,24 +3,25 @@ package aqario.fowlplay.common.entity.ai.brain.task;
 import aqario.fowlplay.common.entity.Flocking;
 import aqario.fowlplay.common.entity.FlyingBirdEntity;
 import aqario.fowlplay.common.entity.ai.brain.FowlPlayMemoryModuleType;
+import aqario.fowlplay.common.entity.ai.flock.Flock;
+import aqario.fowlplay.common.entity.ai.flock.FlockSimulation;
 import com.google.common.collect.ImmutableMap;
 import net.minecraft.entity.ai.brain.MemoryModuleState;
 import net.minecraft.entity.ai.brain.task.MultiTickTask;
 import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
-
-import java.util.List;
+import org.jetbrains.annotations.Nullable;
 
 public class GuidedFlockTask extends MultiTickTask<FlyingBirdEntity> {
-    public float coherence;
-    public float alignment;
+    public final float coherence;
+    public final float alignment;
     public final float separation;
     public final float separationRange;
-    private FlyingBirdEntity leader;
-    private List<? extends PassiveEntity> nearbyBirds;
+    private final FlockSimulation.Sample sample = new FlockSimulation.Sample();
+    private Flock flock;
 
-    public GuidedFlockTask(float separation, float separationRange) {
+    public GuidedFlockTask(float coherence, float alignment, float separation, float separationRange) {
         super(ImmutableMap.of(
             FowlPlayMemoryModuleType.NEAREST_VISIBLE_ADULTS,
             MemoryModuleState.VALUE_PRESENT,
@@ -29,6 +30,8 @@ public class GuidedFlockTask extends MultiTickTask<FlyingBirdEntity> {
             FowlPlayMemoryModuleType.SEES_FOOD,
             MemoryModuleState.VALUE_ABSENT
         ));
+        this.coherence = coherence;
+        this.alignment = alignment;
         this.separation = separation;
         this.separationRange = separationRange;
     }
@@ -36,31 +39,55 @@ public class GuidedFlockTask extends MultiTickTask<FlyingBirdEntity> {
     @Override
     protected boolean shouldRun(ServerWorld world, FlyingBirdEntity bird) {
         if (!bird.isFlying()) {
+            // a bird that lands leaves its flock, and finds a new one once it takes off again
+            Flock flock = ((Flocking) bird).getFlock();
+            if (flock != null) {
+                flock.remove(bird);
+            }
             return false;
         }
-
-        this.nearbyBirds = bird.getBrain().getOptionalRegisteredMemory(FowlPlayMemoryModuleType.NEAREST_VISIBLE_ADULTS)
-            .get()
-            .stream()
-            .filter(entity -> entity.squaredDistanceTo(bird) < 64)
-            .toList();
-
-        if (this.nearbyBirds.isEmpty()) {
+        this.flock = this.joinFlock(world, bird);
+        // the leader flies freely and the rest of the flock follows it
+        if (this.flock.size() < 2 || this.flock.getLeader() == bird) {
             return false;
         }
-        this.leader = null;
-        this.nearbyBirds.forEach(entity -> {
-            if (entity instanceof Flocking flockingBird && flockingBird.isLeader()) {
-                this.leader = (FlyingBirdEntity) flockingBird;
-            }
-        });
+        FlockSimulation.get(world).sample(bird, this.separationRange, this.sample);
 
-        if (this.leader == null) {
-            ((Flocking) bird).setLeader();
-            return false;
+        return true;
+    }
+
+    /**
+     * Returns the bird's flock, only looking for a nearby flock to join while the bird is flying alone.
+     */
+    private Flock joinFlock(ServerWorld world, FlyingBirdEntity bird) {
+        Flock flock = ((Flocking) bird).getFlock();
+        if (flock != null && flock.size() > 1) {
+            return flock;
+        }
+        Flock nearbyFlock = this.findNearbyFlock(bird, flock);
+        if (nearbyFlock != null) {
+            nearbyFlock.add(bird);
+            return nearbyFlock;
+        }
+        if (flock == null) {
+            flock = new Flock(world, bird.getType());
+            flock.add(bird);
         }
+        return flock;
+    }
 
-        return true;
+    @Nullable
+    private Flock findNearbyFlock(FlyingBirdEntity bird, @Nullable Flock current) {
+        for (PassiveEntity entity : bird.getBrain().getOptionalRegisteredMemory(FowlPlayMemoryModuleType.NEAREST_VISIBLE_ADULTS).get()) {
+            if (!(entity instanceof Flocking flocking) || entity.squaredDistanceTo(bird) >= 64) {
+                continue;
+            }
+            Flock flock = flocking.getFlock();
+            if (flock != null && flock != current && flock.canJoin(bird)) {
+                return flock;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -75,25 +102,9 @@ public class GuidedFlockTask extends MultiTickTask<FlyingBirdEntity> {
     }
 
     private Vec3d getHeading(FlyingBirdEntity bird) {
-        Vec3d separation = Vec3d.ZERO;
-        Vec3d alignment = Vec3d.ZERO;
-        Vec3d cohesion = Vec3d.ZERO;
-
-        for (PassiveEntity entity : this.nearbyBirds) {
-            if (entity.getPos().subtract(bird.getPos()).length() < this.separationRange) {
-                separation = separation.subtract(entity.getPos().subtract(bird.getPos()));
-            }
-            alignment = alignment.add(entity.getVelocity());
-            cohesion = cohesion.add(entity.getPos());
-        }
-
-        alignment = alignment.multiply(1f / this.nearbyBirds.size());
-        cohesion = cohesion.multiply(1f / this.nearbyBirds.size());
-        cohesion = cohesion.subtract(bird.getPos());
-
-        cohesion = cohesion.multiply(this.coherence);
-        alignment = alignment.multiply(this.alignment);
-        separation = separation.multiply(this.separation);
+        Vec3d cohesion = this.flock.getCentroid().subtract(bird.getPos()).multiply(this.coherence);
+        Vec3d alignment = this.flock.getMeanVelocity().multiply(this.alignment);
+        Vec3d separation = this.sample.separation.multiply(this.separation);
         Vec3d randomness = new Vec3d(
             bird.getRandom().nextFloat() - bird.getRandom().nextFloat(),
             bird.getRandom().nextFloat() - bird.getRandom().nextFloat(),
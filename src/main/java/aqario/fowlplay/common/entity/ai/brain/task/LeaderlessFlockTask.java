@@ -2,21 +2,19 @@ package aqario.fowlplay.common.entity.ai.brain.task;
 
 import aqario.fowlplay.common.entity.FlyingBirdEntity;
 import aqario.fowlplay.common.entity.ai.brain.FowlPlayMemoryModuleType;
+import aqario.fowlplay.common.entity.ai.flock.FlockSimulation;
 import com.google.common.collect.ImmutableMap;
 import net.minecraft.entity.ai.brain.MemoryModuleState;
 import net.minecraft.entity.ai.brain.task.MultiTickTask;
-import net.minecraft.entity.passive.PassiveEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
 
-import java.util.List;
-
 public class LeaderlessFlockTask extends MultiTickTask<FlyingBirdEntity> {
     public final float coherence;
     public final float alignment;
     public final float separation;
     public final float separationRange;
-    private List<? extends PassiveEntity> nearbyBirds;
+    private final FlockSimulation.Sample sample = new FlockSimulation.Sample();
 
     public LeaderlessFlockTask(float coherence, float alignment, float separation, float separationRange) {
         super(ImmutableMap.of(
@@ -41,10 +39,9 @@ public class LeaderlessFlockTask extends MultiTickTask<FlyingBirdEntity> {
         if (bird.getBrain().getOptionalRegisteredMemory(FowlPlayMemoryModuleType.NEAREST_VISIBLE_ADULTS).isEmpty()) {
             return false;
         }
-        this.nearbyBirds = bird.getBrain().getOptionalRegisteredMemory(FowlPlayMemoryModuleType.NEAREST_VISIBLE_ADULTS).get();
-        this.nearbyBirds.removeIf(entity -> entity.squaredDistanceTo(bird) > 64);
+        FlockSimulation.get(world).sample(bird, this.separationRange, this.sample);
 
-        return this.nearbyBirds.size() > 5;
+        return this.sample.neighbours > 5;
     }
 
     @Override
@@ -59,25 +56,9 @@ public class LeaderlessFlockTask extends MultiTickTask<FlyingBirdEntity> {
     }
 
     private Vec3d getHeading(FlyingBirdEntity bird) {
-        Vec3d separation = Vec3d.ZERO;
-        Vec3d alignment = Vec3d.ZERO;
-        Vec3d cohesion = Vec3d.ZERO;
-
-        for (PassiveEntity entity : this.nearbyBirds) {
-            if (entity.getPos().subtract(bird.getPos()).length() < this.separationRange) {
-                separation = separation.subtract(entity.getPos().subtract(bird.getPos()));
-            }
-            alignment = alignment.add(entity.getVelocity());
-            cohesion = cohesion.add(entity.getPos());
-        }
-
-        alignment = alignment.multiply(1f / this.nearbyBirds.size());
-        cohesion = cohesion.multiply(1f / this.nearbyBirds.size());
-        cohesion = cohesion.subtract(bird.getPos());
-
-        cohesion = cohesion.multiply(this.coherence);
-        alignment = alignment.multiply(this.alignment);
-        separation = separation.multiply(this.separation);
+        Vec3d cohesion = this.sample.cohesion.multiply(this.coherence);
+        Vec3d alignment = this.sample.alignment.multiply(this.alignment);
+        Vec3d separation = this.sample.separation.multiply(this.separation);
         Vec3d randomness = new Vec3d(
             bird.getRandom().nextFloat() - bird.getRandom().nextFloat(),
             bird.getRandom().nextFloat() - bird.getRandom().nextFloat(),
@@ -23,7 +23,7 @@ public class PickupFoodTask {
                 )
                 .apply(instance, (nearestVisibleWantedItem, seesFood, cannotEatFood) -> (world, entity, time) -> {
                     ItemEntity item = instance.getValue(nearestVisibleWantedItem);
-                    if (!entity.getFood().test(item.getStack())) {
+                    if (!entity.getFood().matches(item.getStack())) {
                         return false;
                     }
                     if (!predicate.test(entity)) {
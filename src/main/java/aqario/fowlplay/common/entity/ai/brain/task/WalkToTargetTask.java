@@ -1,6 +1,10 @@
 package aqario.fowlplay.common.entity.ai.brain.task;
 
 import aqario.fowlplay.common.entity.ai.brain.FowlPlayMemoryModuleType;
+import aqario.fowlplay.common.entity.ai.pathing.BirdNavigation;
+import aqario.fowlplay.common.entity.ai.pathing.PathCache;
+import aqario.fowlplay.common.entity.ai.pathing.PendingPath;
+import aqario.fowlplay.common.world.FoodReservationTable;
 import com.google.common.collect.ImmutableMap;
 import net.minecraft.entity.ai.NoPenaltyTargeting;
 import net.minecraft.entity.ai.brain.*;
@@ -18,6 +22,7 @@ import java.util.Optional;
 
 public class WalkToTargetTask extends MultiTickTask<MobEntity> {
     private static final int MAX_UPDATE_COUNTDOWN = 80;
+    private static final int MAX_SEARCH_TICKS = 100;
     private int pathUpdateCountdownTicks;
     @Nullable
     private Path path;
@@ -54,11 +59,23 @@ public class WalkToTargetTask extends MultiTickTask<MobEntity> {
         Brain<?> brain = entity.getBrain();
         WalkTarget walkTarget = brain.getOptionalRegisteredMemory(MemoryModuleType.WALK_TARGET).get();
         boolean reachedTarget = hasReached(entity, walkTarget);
-        if (!reachedTarget && this.hasFinishedPath(entity, walkTarget, world.getTime())) {
-            this.lookTargetPos = walkTarget.getLookTarget().getBlockPos();
-            return true;
+        if (!reachedTarget) {
+            PendingPath pending = this.findPath(entity, walkTarget.getLookTarget().getBlockPos(), world.getTime());
+            if (!pending.isDone()) {
+                return false;
+            }
+            if (this.hasFinishedPath(entity, walkTarget, pending, world.getTime())) {
+                this.lookTargetPos = walkTarget.getLookTarget().getBlockPos();
+                return true;
+            }
+            if (brain.hasMemoryModule(FowlPlayMemoryModuleType.PENDING_PATH)) {
+                // still searching for a way to somewhere near the target
+                return false;
+            }
         }
+        cancelPendingPath(brain);
         brain.forget(MemoryModuleType.WALK_TARGET);
+        FoodReservationTable.get(world).release(entity);
         if (reachedTarget) {
             brain.forget(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE);
         }
@@ -84,8 +101,10 @@ public class WalkToTargetTask extends MultiTickTask<MobEntity> {
         }
 
         entity.getNavigation().stop();
+        cancelPendingPath(entity.getBrain());
         entity.getBrain().forget(MemoryModuleType.WALK_TARGET);
         entity.getBrain().forget(MemoryModuleType.PATH);
+        FoodReservationTable.get(world).release(entity);
         this.path = null;
     }
 
@@ -104,23 +123,56 @@ public class WalkToTargetTask extends MultiTickTask<MobEntity> {
 
         if (path != null && this.lookTargetPos != null) {
             WalkTarget walkTarget = brain.getOptionalRegisteredMemory(MemoryModuleType.WALK_TARGET).get();
-            if (walkTarget.getLookTarget().getBlockPos().getSquaredDistance(this.lookTargetPos) > 4.0 && this.hasFinishedPath(entity, walkTarget, world.getTime())) {
-                this.lookTargetPos = walkTarget.getLookTarget().getBlockPos();
-                this.run(world, entity, l);
+            BlockPos targetPos = walkTarget.getLookTarget().getBlockPos();
+            // keep following the current path while a new one is searched for
+            if (targetPos.getSquaredDistance(this.lookTargetPos) > 4.0 || brain.hasMemoryModule(FowlPlayMemoryModuleType.PENDING_PATH)) {
+                PendingPath pending = this.findPath(entity, targetPos, world.getTime());
+                if (pending.isDone() && this.hasFinishedPath(entity, walkTarget, pending, world.getTime())) {
+                    this.lookTargetPos = targetPos;
+                    this.run(world, entity, l);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the search for a path to the target, reusing the one in progress or a cached path if there is one
+     */
+    private PendingPath findPath(MobEntity entity, BlockPos targetPos, long time) {
+        Brain<?> brain = entity.getBrain();
+        Optional<PendingPath> current = brain.getOptionalRegisteredMemory(FowlPlayMemoryModuleType.PENDING_PATH);
+        if (current.isPresent()) {
+            if (current.get().isFor(targetPos) && time - current.get().getRequestTime() < MAX_SEARCH_TICKS) {
+                return current.get();
             }
+            cancelPendingPath(brain);
         }
+        Path cached = PathCache.get((ServerWorld) entity.getWorld()).getPath(entity, targetPos);
+        if (cached != null) {
+            return PendingPath.of(targetPos, false, time, cached);
+        }
+        PendingPath pending = requestPath(entity, targetPos, targetPos, false, time);
+        if (!pending.isDone()) {
+            brain.remember(FowlPlayMemoryModuleType.PENDING_PATH, pending);
+        }
+        return pending;
     }
 
-    private boolean hasFinishedPath(MobEntity entity, WalkTarget walkTarget, long time) {
+    /**
+     * Takes the result of a finished search. If no path was found, a search for a reachable position
+     * near the target is started instead, which is left in memory while it runs.
+     */
+    private boolean hasFinishedPath(MobEntity entity, WalkTarget walkTarget, PendingPath pending, long time) {
         BlockPos targetPos = walkTarget.getLookTarget().getBlockPos();
-        this.path = entity.getNavigation().findPathTo(targetPos, 0);
-        this.speed = walkTarget.getSpeed();
         Brain<?> brain = entity.getBrain();
+        brain.forget(FowlPlayMemoryModuleType.PENDING_PATH);
+        Path path = pending.getPath();
+        this.speed = walkTarget.getSpeed();
         if (hasReached(entity, walkTarget)) {
             brain.forget(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE);
         }
         else {
-            boolean bl = this.path != null && this.path.reachesTarget();
+            boolean bl = !pending.isFallback() && path != null && path.reachesTarget();
             if (bl) {
                 brain.forget(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE);
             }
@@ -128,9 +180,18 @@ public class WalkToTargetTask extends MultiTickTask<MobEntity> {
                 brain.remember(MemoryModuleType.CANT_REACH_WALK_TARGET_SINCE, time);
             }
 
-            if (this.path != null) {
+            if (path != null) {
+                // paths to a waypoint of a long flight only get the bird part of the way
+                if (!pending.isFallback() && !pending.isPartial()) {
+                    PathCache.get((ServerWorld) entity.getWorld()).putPath(entity, targetPos, path);
+                }
+                this.path = path;
                 return true;
             }
+            if (pending.isFallback()) {
+                this.path = null;
+                return false;
+            }
 
             Vec3d target = NoPenaltyTargeting.findTo(
                 (PathAwareEntity) entity,
@@ -141,14 +202,32 @@ public class WalkToTargetTask extends MultiTickTask<MobEntity> {
             );
 
             if (target != null) {
-                this.path = entity.getNavigation().findPathTo(target.x, target.y, target.z, 0);
+                PendingPath fallback = requestPath(entity, targetPos, BlockPos.ofFloored(target), true, time);
+                if (!fallback.isDone()) {
+                    brain.remember(FowlPlayMemoryModuleType.PENDING_PATH, fallback);
+                    return false;
+                }
+                this.path = fallback.getPath();
                 return this.path != null;
             }
         }
 
+        this.path = null;
         return false;
     }
 
+    private static PendingPath requestPath(MobEntity entity, BlockPos walkTarget, BlockPos target, boolean fallback, long time) {
+        if (entity.getNavigation() instanceof BirdNavigation navigation) {
+            return navigation.requestPathTo(walkTarget, target, fallback, time, 0);
+        }
+        return PendingPath.of(walkTarget, fallback, time, entity.getNavigation().findPathTo(target, 0));
+    }
+
+    private static void cancelPendingPath(Brain<?> brain) {
+        brain.getOptionalRegisteredMemory(FowlPlayMemoryModuleType.PENDING_PATH).ifPresent(PendingPath::cancel);
+        brain.forget(FowlPlayMemoryModuleType.PENDING_PATH);
+    }
+
     private static boolean hasReached(MobEntity entity, WalkTarget walkTarget) {
         return walkTarget.getLookTarget().getBlockPos().getManhattanDistance(entity.getBlockPos()) <= walkTarget.getCompletionRange();
     }
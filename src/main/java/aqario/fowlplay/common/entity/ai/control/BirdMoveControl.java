@@ -19,6 +19,13 @@ public class BirdMoveControl extends MoveControl {
         this.bird = bird;
     }
 
+    /**
+     * Forgets the last movement target, for when the control is swapped back in.
+     */
+    public void stop() {
+        this.state = State.WAIT;
+    }
+
     @Override
     public void tick() {
         if (this.state == State.MOVE_TO) {
@@ -0,0 +1,139 @@
+package aqario.fowlplay.common.entity.ai.flock;
+
+import aqario.fowlplay.common.entity.Flocking;
+import aqario.fowlplay.common.entity.FlyingBirdEntity;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import net.minecraft.entity.EntityType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+
+/**
+ * A group of birds of the same type that fly together, shared by all of its members.
+ * <p>
+ * Members are kept in the order they joined and the longest-standing member leads, so leadership is handed over
+ * deterministically when the leader dies, unloads, lands or strays from the flock. The centroid and mean velocity are
+ * computed at most once per tick, the first time any member asks for them.
+ */
+public class Flock {
+    private static final double STRAY_DISTANCE_SQUARED = 32 * 32;
+    private final ServerWorld world;
+    private final EntityType<?> type;
+    private final ObjectLinkedOpenHashSet<FlyingBirdEntity> members = new ObjectLinkedOpenHashSet<>();
+    @Nullable
+    private FlyingBirdEntity leader;
+    private Vec3d centroid = Vec3d.ZERO;
+    private Vec3d meanVelocity = Vec3d.ZERO;
+    private int lastTick = -1;
+
+    public Flock(ServerWorld world, EntityType<?> type) {
+        this.world = world;
+        this.type = type;
+    }
+
+    public boolean canJoin(FlyingBirdEntity bird) {
+        return bird instanceof Flocking && bird.getType() == this.type && bird.getWorld() == this.world;
+    }
+
+    /**
+     * Moves the bird into this flock, leaving the flock it was previously part of.
+     */
+    public void add(FlyingBirdEntity bird) {
+        if (!this.canJoin(bird)) {
+            return;
+        }
+        Flocking flocking = (Flocking) bird;
+        Flock previous = flocking.getFlock();
+        if (previous == this) {
+            return;
+        }
+        if (previous != null) {
+            previous.remove(bird);
+        }
+        this.members.add(bird);
+        flocking.setFlock(this);
+        this.lastTick = -1;
+    }
+
+    public void remove(FlyingBirdEntity bird) {
+        if (!this.members.remove(bird)) {
+            return;
+        }
+        ((Flocking) bird).setFlock(null);
+        this.lastTick = -1;
+    }
+
+    @Nullable
+    public FlyingBirdEntity getLeader() {
+        this.update();
+        return this.leader;
+    }
+
+    public Vec3d getCentroid() {
+        this.update();
+        return this.centroid;
+    }
+
+    public Vec3d getMeanVelocity() {
+        this.update();
+        return this.meanVelocity;
+    }
+
+    public int size() {
+        this.update();
+        return this.members.size();
+    }
+
+    private void update() {
+        int tick = this.world.getServer().getTicks();
+        if (tick == this.lastTick) {
+            return;
+        }
+        this.lastTick = tick;
+        this.members.removeIf(bird -> {
+            boolean gone = bird.isRemoved() || !bird.isAlive() || !bird.isFlying() || bird.getWorld() != this.world;
+            if (gone) {
+                ((Flocking) bird).setFlock(null);
+            }
+            return gone;
+        });
+        this.computeAverages();
+        boolean strayed = false;
+        for (Iterator<FlyingBirdEntity> iterator = this.members.iterator(); iterator.hasNext(); ) {
+            FlyingBirdEntity bird = iterator.next();
+            if (bird.squaredDistanceTo(this.centroid) > STRAY_DISTANCE_SQUARED) {
+                ((Flocking) bird).setFlock(null);
+                iterator.remove();
+                strayed = true;
+            }
+        }
+        if (strayed) {
+            this.computeAverages();
+        }
+        this.leader = this.members.isEmpty() ? null : this.members.first();
+    }
+
+    private void computeAverages() {
+        if (this.members.isEmpty()) {
+            this.centroid = Vec3d.ZERO;
+            this.meanVelocity = Vec3d.ZERO;
+            return;
+        }
+        double x = 0, y = 0, z = 0;
+        double velX = 0, velY = 0, velZ = 0;
+        for (FlyingBirdEntity bird : this.members) {
+            x += bird.getX();
+            y += bird.getY();
+            z += bird.getZ();
+            Vec3d velocity = bird.getVelocity();
+            velX += velocity.x;
+            velY += velocity.y;
+            velZ += velocity.z;
+        }
+        int size = this.members.size();
+        this.centroid = new Vec3d(x / size, y / size, z / size);
+        this.meanVelocity = new Vec3d(velX / size, velY / size, velZ / size);
+    }
+}
@@ -0,0 +1,245 @@
+package aqario.fowlplay.common.entity.ai.flock;
+
+import aqario.fowlplay.common.entity.FlyingBirdEntity;
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2FloatMap;
+import it.unimi.dsi.fastutil.objects.Object2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.entity.EntityType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.Arrays;
+
+/**
+ * Computes separation, alignment and cohesion for every flocking bird in a world in a single pass per tick.
+ * <p>
+ * Birds register by sampling the simulation from their flocking tasks. At the start of each tick the positions
+ * and velocities of the birds registered during the previous tick are copied into primitive arrays and bucketed
+ * into a grid of {@link #NEIGHBOUR_RANGE}-sized cells, so each bird only looks at the birds in the 27 cells around it.
+ */
+public class FlockSimulation {
+    public static final double NEIGHBOUR_RANGE = 8.0;
+    private static final double NEIGHBOUR_RANGE_SQUARED = NEIGHBOUR_RANGE * NEIGHBOUR_RANGE;
+    // birds whose brains are throttled don't sample every tick, so members are kept around for a while
+    private static final int MEMBER_TIMEOUT = 20;
+    private final ServerWorld world;
+    private final Object2IntMap<FlyingBirdEntity> lastSampled = new Object2IntOpenHashMap<>();
+    private final Object2FloatMap<FlyingBirdEntity> memberSeparationRanges = new Object2FloatOpenHashMap<>();
+    private final Object2IntMap<FlyingBirdEntity> indices = new Object2IntOpenHashMap<>();
+    private final Long2IntMap cellHeads = new Long2IntOpenHashMap();
+    private final double[] scratch = new double[9];
+    private int lastTick = -1;
+    private int size;
+    private EntityType<?>[] types = new EntityType<?>[0];
+    private int[] next = new int[0];
+    private float[] separationRanges = new float[0];
+    private double[] posX = new double[0];
+    private double[] posY = new double[0];
+    private double[] posZ = new double[0];
+    private double[] velX = new double[0];
+    private double[] velY = new double[0];
+    private double[] velZ = new double[0];
+    private double[] separationX = new double[0];
+    private double[] separationY = new double[0];
+    private double[] separationZ = new double[0];
+    private double[] alignmentX = new double[0];
+    private double[] alignmentY = new double[0];
+    private double[] alignmentZ = new double[0];
+    private double[] cohesionX = new double[0];
+    private double[] cohesionY = new double[0];
+    private double[] cohesionZ = new double[0];
+    private int[] neighbours = new int[0];
+
+    public FlockSimulation(ServerWorld world) {
+        this.world = world;
+        this.cellHeads.defaultReturnValue(-1);
+        this.indices.defaultReturnValue(-1);
+    }
+
+    public static FlockSimulation get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getFlockSimulation();
+    }
+
+    /**
+     * Fills {@code sample} with the flocking forces acting on the bird and registers it for the following passes.
+     * Birds that weren't registered yet are sampled individually against the current pass.
+     */
+    public void sample(FlyingBirdEntity bird, float separationRange, Sample sample) {
+        this.update();
+        this.lastSampled.put(bird, this.lastTick);
+        this.memberSeparationRanges.put(bird, separationRange);
+        int i = this.indices.getInt(bird);
+        if (i < 0) {
+            this.sampleUnregistered(bird, separationRange, sample);
+            return;
+        }
+        sample.neighbours = this.neighbours[i];
+        sample.separation = new Vec3d(this.separationX[i], this.separationY[i], this.separationZ[i]);
+        sample.alignment = new Vec3d(this.alignmentX[i], this.alignmentY[i], this.alignmentZ[i]);
+        sample.cohesion = new Vec3d(this.cohesionX[i], this.cohesionY[i], this.cohesionZ[i]);
+    }
+
+    private void update() {
+        int tick = this.world.getServer().getTicks();
+        if (tick == this.lastTick) {
+            return;
+        }
+        this.lastTick = tick;
+        this.world.getProfiler().push("flockSimulation");
+        this.load(tick);
+        this.simulate();
+        this.world.getProfiler().pop();
+    }
+
+    private void load(int tick) {
+        this.indices.clear();
+        this.cellHeads.clear();
+        this.lastSampled.object2IntEntrySet().removeIf(entry -> {
+            FlyingBirdEntity bird = entry.getKey();
+            boolean expired = tick - entry.getIntValue() > MEMBER_TIMEOUT || bird.isRemoved() || !bird.isFlying();
+            if (expired) {
+                this.memberSeparationRanges.removeFloat(bird);
+            }
+            return expired;
+        });
+        this.ensureCapacity(this.lastSampled.size());
+        this.size = 0;
+        for (FlyingBirdEntity bird : this.lastSampled.keySet()) {
+            int i = this.size++;
+            this.indices.put(bird, i);
+            this.types[i] = bird.getType();
+            this.separationRanges[i] = this.memberSeparationRanges.getFloat(bird);
+            this.posX[i] = bird.getX();
+            this.posY[i] = bird.getY();
+            this.posZ[i] = bird.getZ();
+            Vec3d velocity = bird.getVelocity();
+            this.velX[i] = velocity.x;
+            this.velY[i] = velocity.y;
+            this.velZ[i] = velocity.z;
+            long cell = cellKey(this.posX[i], this.posY[i], this.posZ[i]);
+            this.next[i] = this.cellHeads.put(cell, i);
+        }
+    }
+
+    private void simulate() {
+        for (int i = 0; i < this.size; i++) {
+            int count = this.gather(this.posX[i], this.posY[i], this.posZ[i], this.types[i], i, this.separationRanges[i]);
+            this.neighbours[i] = count;
+            this.separationX[i] = this.scratch[0];
+            this.separationY[i] = this.scratch[1];
+            this.separationZ[i] = this.scratch[2];
+            this.alignmentX[i] = this.scratch[3];
+            this.alignmentY[i] = this.scratch[4];
+            this.alignmentZ[i] = this.scratch[5];
+            this.cohesionX[i] = this.scratch[6];
+            this.cohesionY[i] = this.scratch[7];
+            this.cohesionZ[i] = this.scratch[8];
+        }
+    }
+
+    private void sampleUnregistered(FlyingBirdEntity bird, float separationRange, Sample sample) {
+        sample.neighbours = this.gather(bird.getX(), bird.getY(), bird.getZ(), bird.getType(), -1, separationRange);
+        sample.separation = new Vec3d(this.scratch[0], this.scratch[1], this.scratch[2]);
+        sample.alignment = new Vec3d(this.scratch[3], this.scratch[4], this.scratch[5]);
+        sample.cohesion = new Vec3d(this.scratch[6], this.scratch[7], this.scratch[8]);
+    }
+
+    /**
+     * Sums up the neighbours of a position into {@link #scratch}: separation, mean velocity, then offset to the mean position.
+     *
+     * @return the number of neighbours
+     */
+    private int gather(double x, double y, double z, EntityType<?> type, int self, double separationRange) {
+        Arrays.fill(this.scratch, 0.0);
+        int count = 0;
+        int cellX = MathHelper.floor(x / NEIGHBOUR_RANGE);
+        int cellY = MathHelper.floor(y / NEIGHBOUR_RANGE);
+        int cellZ = MathHelper.floor(z / NEIGHBOUR_RANGE);
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    for (int j = this.cellHeads.get(BlockPos.asLong(cellX + dx, cellY + dy, cellZ + dz)); j >= 0; j = this.next[j]) {
+                        if (j == self || this.types[j] != type) {
+                            continue;
+                        }
+                        double ox = this.posX[j] - x;
+                        double oy = this.posY[j] - y;
+                        double oz = this.posZ[j] - z;
+                        double distance = ox * ox + oy * oy + oz * oz;
+                        if (distance >= NEIGHBOUR_RANGE_SQUARED) {
+                            continue;
+                        }
+                        if (distance < separationRange * separationRange) {
+                            this.scratch[0] -= ox;
+                            this.scratch[1] -= oy;
+                            this.scratch[2] -= oz;
+                        }
+                        this.scratch[3] += this.velX[j];
+                        this.scratch[4] += this.velY[j];
+                        this.scratch[5] += this.velZ[j];
+                        this.scratch[6] += ox;
+                        this.scratch[7] += oy;
+                        this.scratch[8] += oz;
+                        count++;
+                    }
+                }
+            }
+        }
+        if (count > 0) {
+            for (int k = 3; k < 9; k++) {
+                this.scratch[k] /= count;
+            }
+        }
+        return count;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (this.posX.length >= capacity) {
+            return;
+        }
+        int length = Math.max(capacity, this.posX.length * 2);
+        this.types = Arrays.copyOf(this.types, length);
+        this.next = new int[length];
+        this.separationRanges = new float[length];
+        this.posX = new double[length];
+        this.posY = new double[length];
+        this.posZ = new double[length];
+        this.velX = new double[length];
+        this.velY = new double[length];
+        this.velZ = new double[length];
+        this.separationX = new double[length];
+        this.separationY = new double[length];
+        this.separationZ = new double[length];
+        this.alignmentX = new double[length];
+        this.alignmentY = new double[length];
+        this.alignmentZ = new double[length];
+        this.cohesionX = new double[length];
+        this.cohesionY = new double[length];
+        this.cohesionZ = new double[length];
+        this.neighbours = new int[length];
+    }
+
+    private static long cellKey(double x, double y, double z) {
+        return BlockPos.asLong(
+            MathHelper.floor(x / NEIGHBOUR_RANGE),
+            MathHelper.floor(y / NEIGHBOUR_RANGE),
+            MathHelper.floor(z / NEIGHBOUR_RANGE)
+        );
+    }
+
+    /**
+     * The flocking forces acting on a bird, reused by each task between ticks.
+     */
+    public static class Sample {
+        public int neighbours;
+        public Vec3d separation = Vec3d.ZERO;
+        public Vec3d alignment = Vec3d.ZERO;
+        public Vec3d cohesion = Vec3d.ZERO;
+    }
+}
@@ -0,0 +1,51 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkCache;
+
+/**
+ * Tells whether whole chunk sections are empty air, from the block counts chunks already keep
+ * or the empty sections of a {@link BlockSnapshot}, so that flight searches don't have to probe open sky block by block.
+ */
+public final class AirSpace {
+    public static boolean isOpenSection(ChunkCache world, int sectionX, int sectionY, int sectionZ) {
+        if (world instanceof BlockSnapshot snapshot) {
+            return snapshot.isOpenSection(sectionX, sectionY, sectionZ);
+        }
+        if (!(world.getChunkAsView(sectionX, sectionZ) instanceof Chunk chunk)) {
+            return false;
+        }
+        int index = chunk.sectionCoordToIndex(sectionY);
+        if (index < 0 || index >= chunk.countVerticalSections()) {
+            return false;
+        }
+        return chunk.getSection(index).isEmpty();
+    }
+
+    public static boolean isInOpenSection(ChunkCache world, int x, int y, int z) {
+        return isOpenSection(
+            world,
+            ChunkSectionPos.getSectionCoord(x),
+            ChunkSectionPos.getSectionCoord(y),
+            ChunkSectionPos.getSectionCoord(z)
+        );
+    }
+
+    /**
+     * Whether the position is in an empty section and at least a block away from its faces, so that
+     * everything a node type depends on, the block below and the neighbours included, is air as well.
+     */
+    public static boolean isInsideOpenSection(ChunkCache world, int x, int y, int z) {
+        return isInsideSection(x, y, z) && isInOpenSection(world, x, y, z);
+    }
+
+    public static boolean isInsideSection(int x, int y, int z) {
+        return isInside(x) && isInside(y) && isInside(z);
+    }
+
+    private static boolean isInside(int coord) {
+        int local = coord & 15;
+        return local >= 1 && local <= 14;
+    }
+}
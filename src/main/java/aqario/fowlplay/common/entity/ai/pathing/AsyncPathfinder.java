@@ -0,0 +1,100 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import aqario.fowlplay.common.FowlPlay;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.entity.ai.pathing.PathNodeMaker;
+import net.minecraft.entity.ai.pathing.PathNodeNavigator;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs flight path searches on a small pool of worker threads, with the same node maker and navigator
+ * a bird searches with on the server thread. Blocks are read from a {@link BlockSnapshot} taken on the server thread.
+ * Of the bird itself the search only reads its size, its pathfinding penalties, which are fixed once it is created,
+ * and its position when the search starts.
+ */
+public class AsyncPathfinder {
+    private static final int QUEUE_SIZE = 256;
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 4));
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ThreadLocal<Searcher> SEARCHERS = ThreadLocal.withInitial(Searcher::new);
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+        THREADS,
+        THREADS,
+        30L,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(QUEUE_SIZE),
+        runnable -> {
+            Thread thread = new Thread(runnable, "Fowl Play Pathfinder #" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) -> FowlPlay.LOGGER.error("Flight path search failed on {}", t.getName(), e));
+            return thread;
+        }
+    );
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues a search, or returns false if the queue is full and the caller should search on its own thread.
+     *
+     * @param template the node maker the bird searches with on the server thread, whose settings the search copies
+     */
+    static boolean submit(PendingPath pending, MobEntity entity, PathNodeMaker template, BlockSnapshot blocks, BlockPos target, float followRange, int distance) {
+        boolean canEnterOpenDoors = template.canEnterOpenDoors();
+        boolean canOpenDoors = template.canOpenDoors();
+        boolean canSwim = template.canSwim();
+        try {
+            EXECUTOR.execute(() -> {
+                Path path = null;
+                try {
+                    if (!pending.isCancelled() && !entity.isRemoved()) {
+                        Searcher searcher = SEARCHERS.get();
+                        searcher.nodeMaker.setCanEnterOpenDoors(canEnterOpenDoors);
+                        searcher.nodeMaker.setCanOpenDoors(canOpenDoors);
+                        searcher.nodeMaker.setCanSwim(canSwim);
+                        path = searcher.find(entity, blocks, target, followRange, distance);
+                    }
+                }
+                finally {
+                    // a search that throws still finishes, so the bird asks again rather than waiting on it
+                    pending.complete(path);
+                }
+            });
+            return true;
+        }
+        catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The node maker and navigators a worker thread reuses from one search to the next.
+     */
+    private static class Searcher {
+        private final OpenAirPathNodeMaker nodeMaker = new OpenAirPathNodeMaker();
+        // keyed on the number of nodes a navigator may visit, which follows from the bird's follow range
+        private final Int2ObjectMap<PathNodeNavigator> navigators = new Int2ObjectOpenHashMap<>();
+
+        @Nullable
+        private Path find(MobEntity entity, BlockSnapshot blocks, BlockPos target, float followRange, int distance) {
+            PathNodeNavigator navigator = this.navigators.computeIfAbsent(
+                MathHelper.floor(followRange * 16.0F),
+                range -> new PathNodeNavigator(this.nodeMaker, range)
+            );
+            return navigator.findPathToAny(blocks, entity, Set.of(target), followRange, distance, 1.0F);
+        }
+    }
+}
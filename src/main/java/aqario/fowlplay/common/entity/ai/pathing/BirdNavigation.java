@@ -1,13 +1,19 @@
 package aqario.fowlplay.common.entity.ai.pathing;
 
+import aqario.fowlplay.common.config.FowlPlayConfig;
 import aqario.fowlplay.common.entity.BirdEntity;
 import com.google.common.collect.ImmutableSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.ai.pathing.BirdPathNodeMaker;
 import net.minecraft.entity.ai.pathing.MobNavigation;
 import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.entity.ai.pathing.PathContext;
+import net.minecraft.entity.ai.pathing.PathNode;
 import net.minecraft.entity.ai.pathing.PathNodeNavigator;
+import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.server.network.DebugInfoSender;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
@@ -16,7 +22,13 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 
 public class BirdNavigation extends MobNavigation {
+    private static final int SEARCH_RANGE = 32;
+    // covers the bird's bounding box and the neighbours read around the furthest node
+    private static final int SNAPSHOT_MARGIN = 3;
     private final BirdEntity bird;
+    // the last path smoothed, so that starting to move along it again doesn't smooth it twice
+    @Nullable
+    private Path smoothedPath;
 
     public BirdNavigation(BirdEntity bird, World world) {
         super(bird, world);
@@ -25,7 +37,7 @@ public class BirdNavigation extends MobNavigation {
 
     @Override
     protected PathNodeNavigator createPathNodeNavigator(int range) {
-        this.nodeMaker = new BirdPathNodeMaker();
+        this.nodeMaker = new OpenAirPathNodeMaker();
         this.nodeMaker.setCanEnterOpenDoors(true);
         return new PathNodeNavigator(this.nodeMaker, range);
     }
@@ -47,6 +59,77 @@ public class BirdNavigation extends MobNavigation {
         return doesNotCollide(this.entity, origin, target, true);
     }
 
+    @Override
+    protected void adjustPath() {
+        super.adjustPath();
+        if (this.currentPath != null && this.currentPath != this.smoothedPath) {
+            this.smoothPath(this.currentPath);
+            this.smoothedPath = this.currentPath;
+        }
+    }
+
+    /**
+     * Drops the nodes the bird can fly past in a straight line, leaving only the ones where it has to turn.
+     * Each node is tested against the last one kept, so every segment is only checked for collisions once.
+     * A shortcut is only taken if the bird's bounding box doesn't cross anything costlier than the nodes it skips.
+     */
+    private void smoothPath(Path path) {
+        int start = path.getCurrentNodeIndex();
+        int length = path.getLength();
+        if (length - start < 3) {
+            return;
+        }
+        PathContext context = new PathContext(this.world, this.entity);
+        Vec3d anchor = Vec3d.ofBottomCenter(path.getNodePos(start));
+        float penalty = path.getNode(start).penalty;
+        int kept = start + 1;
+        for (int i = start + 1; i < length - 1; i++) {
+            PathNode node = path.getNode(i);
+            PathNode next = path.getNode(i + 1);
+            float replaced = Math.max(penalty, Math.max(node.penalty, next.penalty));
+            Vec3d target = Vec3d.ofBottomCenter(next.getBlockPos());
+            if (this.canPathDirectlyThrough(anchor, target) && this.canSweepThrough(context, anchor, target, replaced)) {
+                penalty = Math.max(penalty, node.penalty);
+                continue;
+            }
+            path.setNode(kept++, node);
+            anchor = Vec3d.ofBottomCenter(node.getBlockPos());
+            penalty = node.penalty;
+        }
+        path.setNode(kept++, path.getNode(length - 1));
+        path.setLength(kept);
+    }
+
+    /**
+     * Moves the bird's bounding box along the segment half a block at a time, checking every block it touches.
+     */
+    private boolean canSweepThrough(PathContext context, Vec3d origin, Vec3d target, float maxPenalty) {
+        double halfWidth = this.entity.getWidth() / 2.0;
+        double height = this.entity.getHeight();
+        int steps = Math.max(1, MathHelper.ceil(origin.distanceTo(target) * 2.0));
+        LongSet checked = new LongOpenHashSet();
+        for (int step = 0; step <= steps; step++) {
+            Vec3d pos = origin.lerp(target, step / (double) steps);
+            int maxX = MathHelper.floor(pos.x + halfWidth);
+            int maxY = MathHelper.floor(pos.y + height);
+            int maxZ = MathHelper.floor(pos.z + halfWidth);
+            for (int x = MathHelper.floor(pos.x - halfWidth); x <= maxX; x++) {
+                for (int y = MathHelper.floor(pos.y); y <= maxY; y++) {
+                    for (int z = MathHelper.floor(pos.z - halfWidth); z <= maxZ; z++) {
+                        if (!checked.add(BlockPos.asLong(x, y, z))) {
+                            continue;
+                        }
+                        float penalty = this.entity.getPathfindingPenalty(this.nodeMaker.getDefaultNodeType(context, x, y, z));
+                        if (penalty < 0.0F || penalty > maxPenalty) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     protected boolean isAtValidPosition() {
         return this.canSwim() && this.entity.isInFluid() || !this.entity.hasVehicle();
@@ -64,7 +147,54 @@ public class BirdNavigation extends MobNavigation {
 
     @Nullable
     public Path findPathTo(BlockPos target, int distance) {
-        return this.findPathTo(ImmutableSet.of(target), 32, false, distance);
+        return this.findPathTo(ImmutableSet.of(target), SEARCH_RANGE, false, distance);
+    }
+
+    /**
+     * Starts a search for a path to the target on a pathfinding worker, or finds it right away
+     * if asynchronous pathfinding is disabled or the workers are saturated. A far away target is
+     * flown to along a planned route, searching only for a path to its next waypoint.
+     *
+     * @param walkTarget the walk target the path is for
+     * @param fallback whether the target is a reachable stand-in for the walk target
+     */
+    public PendingPath requestPathTo(BlockPos walkTarget, BlockPos target, boolean fallback, long time, int distance) {
+        BlockPos searchTarget = target;
+        boolean partial = false;
+        if (this.world instanceof ServerWorld serverWorld && this.isFarAway(target)) {
+            BlockPos waypoint = FlightRoutePlanner.get(serverWorld).getNextWaypoint(this.entity, target);
+            if (waypoint != null) {
+                searchTarget = waypoint;
+                partial = true;
+            }
+        }
+        PendingPath pending = new PendingPath(walkTarget, fallback, partial, time);
+        if (!FowlPlayConfig.getInstance().asyncPathfinding
+            || !(this.world instanceof ServerWorld serverWorld)
+            || this.entity.getY() < this.world.getBottomY()
+            || !this.isAtValidPosition()
+            || this.currentPath != null && !this.currentPath.isFinished() && searchTarget.equals(this.currentPath.getTarget())
+        ) {
+            pending.complete(this.findPathTo(searchTarget, distance));
+            return pending;
+        }
+        float followRange = (float) this.entity.getAttributeValue(EntityAttributes.GENERIC_FOLLOW_RANGE);
+        BlockSnapshot blocks = BlockSnapshot.capture(
+            BlockSnapshotCache.get(serverWorld),
+            serverWorld,
+            this.entity.getBlockPos(),
+            MathHelper.ceil(followRange) + SNAPSHOT_MARGIN
+        );
+        if (!AsyncPathfinder.submit(pending, this.entity, this.nodeMaker, blocks, searchTarget, followRange, distance)) {
+            pending.complete(this.findPathTo(searchTarget, distance));
+        }
+        return pending;
+    }
+
+    private boolean isFarAway(BlockPos target) {
+        double dx = target.getX() + 0.5 - this.entity.getX();
+        double dz = target.getZ() + 0.5 - this.entity.getZ();
+        return dx * dx + dz * dz > FlightRoutePlanner.LONG_RANGE * FlightRoutePlanner.LONG_RANGE;
     }
 
     @Override
@@ -0,0 +1,161 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.profiler.DummyProfiler;
+import net.minecraft.util.profiler.Profiler;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkCache;
+import net.minecraft.world.chunk.PalettedContainer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable view of the blocks in a box of chunk sections, made of copies from the {@link BlockSnapshotCache}.
+ * Empty sections, unloaded chunks and anything outside the box read as air, as they do through a chunk cache.
+ * It stands in for the chunk cache a path search is given, so that searches can run off the server thread.
+ */
+public class BlockSnapshot extends ChunkCache {
+    private final int minSectionX;
+    private final int minSectionY;
+    private final int minSectionZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final int bottomY;
+    private final int height;
+    private final PalettedContainer<BlockState>[] sections;
+
+    @SuppressWarnings("unchecked")
+    private BlockSnapshot(World world, BlockPos center, int minSectionX, int minSectionY, int minSectionZ, int maxSectionX, int maxSectionY, int maxSectionZ) {
+        // the chunk cache itself only looks at the center chunk, every read goes through the copied sections
+        super(world, center, center);
+        this.minSectionX = minSectionX;
+        this.minSectionY = minSectionY;
+        this.minSectionZ = minSectionZ;
+        this.sizeX = maxSectionX - minSectionX + 1;
+        this.sizeY = maxSectionY - minSectionY + 1;
+        this.sizeZ = maxSectionZ - minSectionZ + 1;
+        this.bottomY = world.getBottomY();
+        this.height = world.getHeight();
+        this.sections = new PalettedContainer[this.sizeX * this.sizeY * this.sizeZ];
+    }
+
+    /**
+     * Captures the sections within a radius of the center, on the server thread.
+     */
+    public static BlockSnapshot capture(BlockSnapshotCache cache, World world, BlockPos center, int radius) {
+        int minY = Math.max(world.getBottomSectionCoord(), ChunkSectionPos.getSectionCoord(center.getY() - radius));
+        int maxY = Math.min(world.getTopSectionCoord() - 1, ChunkSectionPos.getSectionCoord(center.getY() + radius));
+        BlockSnapshot snapshot = new BlockSnapshot(
+            world,
+            center,
+            ChunkSectionPos.getSectionCoord(center.getX() - radius),
+            minY,
+            ChunkSectionPos.getSectionCoord(center.getZ() - radius),
+            ChunkSectionPos.getSectionCoord(center.getX() + radius),
+            Math.max(minY, maxY),
+            ChunkSectionPos.getSectionCoord(center.getZ() + radius)
+        );
+        for (int x = 0; x < snapshot.sizeX; x++) {
+            for (int y = 0; y < snapshot.sizeY; y++) {
+                for (int z = 0; z < snapshot.sizeZ; z++) {
+                    snapshot.sections[snapshot.index(x, y, z)] = cache.getSection(
+                        snapshot.minSectionX + x,
+                        snapshot.minSectionY + y,
+                        snapshot.minSectionZ + z
+                    );
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    private int index(int x, int y, int z) {
+        return (x * this.sizeY + y) * this.sizeZ + z;
+    }
+
+    private boolean containsColumn(int sectionX, int sectionZ) {
+        int x = sectionX - this.minSectionX;
+        int z = sectionZ - this.minSectionZ;
+        return x >= 0 && z >= 0 && x < this.sizeX && z < this.sizeZ;
+    }
+
+    private boolean containsSection(int sectionX, int sectionY, int sectionZ) {
+        int y = sectionY - this.minSectionY;
+        return this.containsColumn(sectionX, sectionZ) && y >= 0 && y < this.sizeY;
+    }
+
+    @Nullable
+    private PalettedContainer<BlockState> getSection(int sectionX, int sectionY, int sectionZ) {
+        if (!this.containsSection(sectionX, sectionY, sectionZ)) {
+            return null;
+        }
+        return this.sections[this.index(sectionX - this.minSectionX, sectionY - this.minSectionY, sectionZ - this.minSectionZ)];
+    }
+
+    /**
+     * @return whether the section is in the snapshot and holds nothing but air
+     */
+    public boolean isOpenSection(int sectionX, int sectionY, int sectionZ) {
+        return !this.isOutOfHeightLimit(ChunkSectionPos.getBlockCoord(sectionY))
+            && this.containsSection(sectionX, sectionY, sectionZ)
+            && this.getSection(sectionX, sectionY, sectionZ) == null;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        if (this.isOutOfHeightLimit(pos)) {
+            return Blocks.VOID_AIR.getDefaultState();
+        }
+        PalettedContainer<BlockState> section = this.getSection(
+            ChunkSectionPos.getSectionCoord(pos.getX()),
+            ChunkSectionPos.getSectionCoord(pos.getY()),
+            ChunkSectionPos.getSectionCoord(pos.getZ())
+        );
+        if (section == null) {
+            return Blocks.AIR.getDefaultState();
+        }
+        return section.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return this.getBlockState(pos).getFluidState();
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    /**
+     * Collision checks read the blocks of a column through this, so the snapshot stands in for its chunks.
+     */
+    @Nullable
+    @Override
+    public BlockView getChunkAsView(int chunkX, int chunkZ) {
+        return this.containsColumn(chunkX, chunkZ) ? this : null;
+    }
+
+    @Override
+    public Profiler getProfiler() {
+        // the world's profiler belongs to the server thread
+        return DummyProfiler.INSTANCE;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.height;
+    }
+
+    @Override
+    public int getBottomY() {
+        return this.bottomY;
+    }
+}
@@ -0,0 +1,88 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Copies of the block states of chunk sections, handed to pathfinding workers so they never read live chunks.
+ * A copy is shared by every search that needs its section until a block in the section changes,
+ * its chunk unloads, or it goes unused for a while. Only touched on the server thread.
+ */
+public class BlockSnapshotCache {
+    private static final int TTL = 200;
+    private static final int CLEANUP_INTERVAL = 200;
+    private final ServerWorld world;
+    private final Long2ObjectMap<Entry> sections = new Long2ObjectOpenHashMap<>();
+    private long lastCleanup;
+
+    public BlockSnapshotCache(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static BlockSnapshotCache get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getBlockSnapshotCache();
+    }
+
+    /**
+     * @return a copy of the section's block states, or null if the section is empty or its chunk isn't loaded
+     */
+    @Nullable
+    public PalettedContainer<BlockState> getSection(int sectionX, int sectionY, int sectionZ) {
+        long time = this.world.getTime();
+        this.cleanup(time);
+        long key = ChunkSectionPos.asLong(sectionX, sectionY, sectionZ);
+        Entry entry = this.sections.get(key);
+        if (entry != null) {
+            entry.time = time;
+            return entry.blocks;
+        }
+        WorldChunk chunk = this.world.getChunkManager().getWorldChunk(sectionX, sectionZ);
+        if (chunk == null) {
+            return null;
+        }
+        int index = chunk.sectionCoordToIndex(sectionY);
+        if (index < 0 || index >= chunk.countVerticalSections()) {
+            return null;
+        }
+        ChunkSection section = chunk.getSection(index);
+        entry = new Entry();
+        entry.time = time;
+        entry.blocks = section.isEmpty() ? null : section.getBlockStateContainer().copy();
+        this.sections.put(key, entry);
+        return entry.blocks;
+    }
+
+    public void onBlockChanged(BlockPos pos) {
+        this.sections.remove(ChunkSectionPos.toLong(pos));
+    }
+
+    public void onChunkUnloaded(ChunkPos pos) {
+        for (int y = this.world.getBottomSectionCoord(); y < this.world.getTopSectionCoord(); y++) {
+            this.sections.remove(ChunkSectionPos.asLong(pos.x, y, pos.z));
+        }
+    }
+
+    private void cleanup(long time) {
+        if (time - this.lastCleanup < CLEANUP_INTERVAL) {
+            return;
+        }
+        this.lastCleanup = time;
+        this.sections.values().removeIf(entry -> time - entry.time >= TTL);
+    }
+
+    private static class Entry {
+        private long time;
+        @Nullable
+        private PalettedContainer<BlockState> blocks;
+    }
+}
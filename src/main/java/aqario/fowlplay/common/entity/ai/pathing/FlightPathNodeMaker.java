@@ -75,18 +75,11 @@ public class FlightPathNodeMaker extends LandPathNodeMaker {
 
     @Override
     public PathNodeType getDefaultNodeType(PathContext context, int x, int y, int z) {
+        if (context.getWorld() instanceof ChunkCache world && AirSpace.isInsideOpenSection(world, x, y, z)) {
+            return PathNodeType.OPEN;
+        }
         PathNodeType pathNodeType = context.getNodeType(x, y, z);
         if (pathNodeType == PathNodeType.OPEN) {
-            BlockPos.Mutable mutable = new BlockPos.Mutable();
-
-            for (Direction direction : Direction.values()) {
-                mutable.set(x, y, z).move(direction);
-                PathNodeType pathNodeType2 = context.getNodeType(mutable.getX(), mutable.getY(), mutable.getZ());
-                if (pathNodeType2 == PathNodeType.BLOCKED) {
-                    return PathNodeType.OPEN;
-                }
-            }
-
             return PathNodeType.OPEN;
         }
         else {
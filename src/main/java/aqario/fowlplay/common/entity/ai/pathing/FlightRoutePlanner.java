@@ -0,0 +1,293 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectHeapPriorityQueue;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Plans long flights over a coarse graph of loaded chunk columns, each flown over at a safe altitude
+ * above the highest block in it. Birds then only search for a short path to the next waypoint of the route.
+ * Routes are cached by the column of their target and shared by every bird flying there, each resuming from the
+ * column of the route nearest to it. Altitudes and routes are forgotten when a block near the top of a column changes
+ * or its chunk unloads.
+ */
+public class FlightRoutePlanner {
+    public static final int LONG_RANGE = 48;
+    private static final int WAYPOINT_RANGE = 32;
+    private static final int CLEARANCE = 6;
+    private static final int MAX_EXPANSIONS = 1024;
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+    private static final int ROUTE_TTL = 1200;
+    private static final int FAILED_ROUTE_TTL = 100;
+    private static final int CLEANUP_INTERVAL = 200;
+    // how many columns away from a route a bird may be and still join it
+    private static final int JOIN_RANGE = 2;
+    private final ServerWorld world;
+    private final Long2IntMap altitudes = new Long2IntOpenHashMap();
+    private final Long2ObjectMap<Route> routes = new Long2ObjectOpenHashMap<>();
+    private long lastCleanup;
+
+    public FlightRoutePlanner(ServerWorld world) {
+        this.world = world;
+        this.altitudes.defaultReturnValue(UNKNOWN);
+    }
+
+    public static FlightRoutePlanner get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getFlightRoutePlanner();
+    }
+
+    /**
+     * @return the furthest waypoint within reach of a single path search on the route from the entity to the target,
+     * or null if there is no route
+     */
+    @Nullable
+    public BlockPos getNextWaypoint(MobEntity entity, BlockPos target) {
+        if (this.world.getDimension().hasCeiling()) {
+            return null;
+        }
+        long time = this.world.getTime();
+        this.cleanup(time);
+        long start = entity.getChunkPos().toLong();
+        long end = ChunkPos.toLong(target);
+        Route route = this.routes.get(end);
+        int index = route != null ? route.getNearestColumn(start) : -1;
+        if (index < 0) {
+            route = this.findRoute(start, end, time);
+            this.routes.put(end, route);
+            index = 0;
+        }
+        if (route.waypoints.isEmpty()) {
+            return null;
+        }
+        // the waypoint after a column is in the next one, or the last waypoint if the bird is already at the end
+        index = Math.min(index, route.waypoints.size() - 1);
+        BlockPos next = route.waypoints.get(index);
+        for (BlockPos waypoint : route.waypoints.subList(index, route.waypoints.size())) {
+            double dx = waypoint.getX() + 0.5 - entity.getX();
+            double dz = waypoint.getZ() + 0.5 - entity.getZ();
+            if (dx * dx + dz * dz > WAYPOINT_RANGE * WAYPOINT_RANGE) {
+                break;
+            }
+            next = waypoint;
+        }
+        return next;
+    }
+
+    /**
+     * A change to a block near the top of a column may raise its safe altitude.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        long column = ChunkPos.toLong(pos);
+        int altitude = this.altitudes.get(column);
+        if (altitude != UNKNOWN && pos.getY() >= altitude - CLEARANCE) {
+            this.forgetColumn(column);
+        }
+    }
+
+    public void onChunkUnloaded(ChunkPos pos) {
+        this.forgetColumn(pos.toLong());
+    }
+
+    private void forgetColumn(long column) {
+        if (this.altitudes.remove(column) != UNKNOWN) {
+            this.routes.values().removeIf(route -> route.columns.contains(column));
+        }
+    }
+
+    private int getAltitude(int chunkX, int chunkZ) {
+        long column = ChunkPos.toLong(chunkX, chunkZ);
+        int altitude = this.altitudes.get(column);
+        if (altitude != UNKNOWN) {
+            return altitude;
+        }
+        // unloaded columns are left out of the graph rather than loaded
+        WorldChunk chunk = this.world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+        if (chunk == null) {
+            return UNKNOWN;
+        }
+        Heightmap heightmap = chunk.getHeightmap(Heightmap.Type.MOTION_BLOCKING);
+        int top = this.world.getBottomY();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                top = Math.max(top, heightmap.get(x, z));
+            }
+        }
+        altitude = Math.min(top + CLEARANCE, this.world.getTopY() - 1);
+        this.altitudes.put(column, altitude);
+        return altitude;
+    }
+
+    private Route findRoute(long start, long end, long time) {
+        Route route = new Route(start, time);
+        int endX = ChunkPos.getPackedX(end);
+        int endZ = ChunkPos.getPackedZ(end);
+        if (this.getAltitude(ChunkPos.getPackedX(start), ChunkPos.getPackedZ(start)) == UNKNOWN
+            || this.getAltitude(endX, endZ) == UNKNOWN) {
+            return route;
+        }
+        Long2ObjectMap<Node> nodes = new Long2ObjectOpenHashMap<>();
+        ObjectHeapPriorityQueue<Node> open = new ObjectHeapPriorityQueue<>(Comparator.comparingDouble((Node node) -> node.estimate));
+        Node first = new Node(start, null, 0.0F, heuristic(start, endX, endZ));
+        nodes.put(start, first);
+        open.enqueue(first);
+        int expansions = 0;
+        while (!open.isEmpty() && expansions++ < MAX_EXPANSIONS) {
+            Node node = open.dequeue();
+            if (node.closed) {
+                continue;
+            }
+            node.closed = true;
+            if (node.column == end) {
+                this.buildWaypoints(route, node);
+                return route;
+            }
+            int x = ChunkPos.getPackedX(node.column);
+            int z = ChunkPos.getPackedZ(node.column);
+            int altitude = this.getAltitude(x, z);
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if (dx == 0 && dz == 0) {
+                        continue;
+                    }
+                    int neighbourAltitude = this.getAltitude(x + dx, z + dz);
+                    if (neighbourAltitude == UNKNOWN) {
+                        continue;
+                    }
+                    long column = ChunkPos.toLong(x + dx, z + dz);
+                    // climbing costs extra, so routes go around mountains when it is cheaper
+                    float cost = node.cost
+                        + MathHelper.sqrt(dx * dx + dz * dz)
+                        + Math.max(0, neighbourAltitude - altitude) / 16.0F;
+                    Node neighbour = nodes.get(column);
+                    if (neighbour != null) {
+                        if (neighbour.closed || neighbour.cost <= cost) {
+                            continue;
+                        }
+                        // the cheaper node replaces it, so skip it when it comes out of the queue
+                        neighbour.closed = true;
+                    }
+                    neighbour = new Node(column, node, cost, cost + heuristic(column, endX, endZ));
+                    nodes.put(column, neighbour);
+                    open.enqueue(neighbour);
+                }
+            }
+        }
+        return route;
+    }
+
+    private void buildWaypoints(Route route, Node last) {
+        List<Node> path = new ArrayList<>();
+        for (Node node = last; node != null; node = node.parent) {
+            path.add(0, node);
+        }
+        for (int i = 0; i < path.size(); i++) {
+            long column = path.get(i).column;
+            route.columns.add(column);
+            route.path.add(column);
+            if (i == 0) {
+                continue;
+            }
+            int x = ChunkPos.getPackedX(column);
+            int z = ChunkPos.getPackedZ(column);
+            long previous = path.get(i - 1).column;
+            // high enough to clear both columns on the way in
+            int y = Math.max(
+                this.getAltitude(x, z),
+                this.getAltitude(ChunkPos.getPackedX(previous), ChunkPos.getPackedZ(previous))
+            );
+            route.waypoints.add(new BlockPos(ChunkPos.getOffsetPos(x, 8), y, ChunkPos.getOffsetPos(z, 8)));
+        }
+    }
+
+    private static float heuristic(long column, int endX, int endZ) {
+        int dx = ChunkPos.getPackedX(column) - endX;
+        int dz = ChunkPos.getPackedZ(column) - endZ;
+        return MathHelper.sqrt(dx * dx + dz * dz);
+    }
+
+    private void cleanup(long time) {
+        if (time - this.lastCleanup < CLEANUP_INTERVAL) {
+            return;
+        }
+        this.lastCleanup = time;
+        this.routes.values().removeIf(route -> time - route.time >= (route.waypoints.isEmpty() ? FAILED_ROUTE_TTL : ROUTE_TTL));
+    }
+
+    private static class Route {
+        private final long start;
+        private final long time;
+        // the chunk columns the route crosses, including the one it starts in
+        private final LongSet columns = new LongOpenHashSet();
+        // the same columns in order, the waypoint at each index lies in the column after it
+        private final LongList path = new LongArrayList();
+        private final List<BlockPos> waypoints = new ArrayList<>();
+
+        private Route(long start, long time) {
+            this.start = start;
+            this.time = time;
+        }
+
+        /**
+         * @return the index of the route column nearest to the given one, or -1 if it is too far away to join the route
+         */
+        private int getNearestColumn(long column) {
+            if (this.path.isEmpty()) {
+                // a route that wasn't found only stands for birds setting out from about the same place
+                return distance(this.start, column) <= JOIN_RANGE ? 0 : -1;
+            }
+            int nearest = -1;
+            int nearestDistance = JOIN_RANGE;
+            for (int i = 0; i < this.path.size(); i++) {
+                int distance = distance(this.path.getLong(i), column);
+                // ties go to the later column, so birds never turn back along the route
+                if (distance <= nearestDistance) {
+                    nearest = i;
+                    nearestDistance = distance;
+                }
+            }
+            return nearest;
+        }
+
+        private static int distance(long a, long b) {
+            return Math.max(
+                Math.abs(ChunkPos.getPackedX(a) - ChunkPos.getPackedX(b)),
+                Math.abs(ChunkPos.getPackedZ(a) - ChunkPos.getPackedZ(b))
+            );
+        }
+    }
+
+    private static class Node {
+        private final long column;
+        @Nullable
+        private final Node parent;
+        private final float cost;
+        private final float estimate;
+        private boolean closed;
+
+        private Node(long column, @Nullable Node parent, float cost, float estimate) {
+            this.column = column;
+            this.parent = parent;
+            this.cost = cost;
+            this.estimate = estimate;
+        }
+    }
+}
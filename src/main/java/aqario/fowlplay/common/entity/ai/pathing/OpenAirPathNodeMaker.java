@@ -0,0 +1,89 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import net.minecraft.entity.ai.pathing.BirdPathNodeMaker;
+import net.minecraft.entity.ai.pathing.LandPathNodeMaker;
+import net.minecraft.entity.ai.pathing.PathContext;
+import net.minecraft.entity.ai.pathing.PathNode;
+import net.minecraft.entity.ai.pathing.PathNodeType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.CollisionView;
+import net.minecraft.world.chunk.ChunkCache;
+
+/**
+ * A bird path node maker that knows chunk sections of empty air are open without probing their blocks,
+ * and that lets a search cross from one empty section into the next in a single step.
+ */
+public class OpenAirPathNodeMaker extends BirdPathNodeMaker {
+    private static final int JUMP_LENGTH = 16;
+    // keeps the bird's bounding box inside the empty sections at both ends of a jump
+    private static final int MARGIN = 2;
+
+    @Override
+    public void init(ChunkCache cachedWorld, MobEntity entity) {
+        super.init(cachedWorld, entity);
+        if (cachedWorld instanceof BlockSnapshot) {
+            this.context = new SnapshotPathContext(cachedWorld, entity);
+        }
+    }
+
+    @Override
+    public int getSuccessors(PathNode[] successors, PathNode node) {
+        int i = super.getSuccessors(successors, node);
+        if (!(this.context.getWorld() instanceof ChunkCache world) || !this.canJumpFrom(world, node)) {
+            return i;
+        }
+        for (Direction direction : Direction.values()) {
+            if (i >= successors.length) {
+                break;
+            }
+            int x = node.x + direction.getOffsetX() * JUMP_LENGTH;
+            int y = node.y + direction.getOffsetY() * JUMP_LENGTH;
+            int z = node.z + direction.getOffsetZ() * JUMP_LENGTH;
+            if (!AirSpace.isInOpenSection(world, x, y, z)) {
+                continue;
+            }
+            PathNode jump = this.getPassableNode(x, y, z);
+            if (jump != null && !jump.visited) {
+                successors[i++] = jump;
+            }
+        }
+        return i;
+    }
+
+    private boolean canJumpFrom(ChunkCache world, PathNode node) {
+        return isAwayFromBorder(node.x) && isAwayFromBorder(node.y) && isAwayFromBorder(node.z)
+            && AirSpace.isInOpenSection(world, node.x, node.y, node.z);
+    }
+
+    private static boolean isAwayFromBorder(int coord) {
+        int local = coord & 15;
+        return local >= MARGIN && local < 16 - MARGIN;
+    }
+
+    @Override
+    public PathNodeType getDefaultNodeType(PathContext context, int x, int y, int z) {
+        if (context.getWorld() instanceof ChunkCache world && AirSpace.isInsideOpenSection(world, x, y, z)) {
+            return PathNodeType.OPEN;
+        }
+        return super.getDefaultNodeType(context, x, y, z);
+    }
+
+    /**
+     * Computes node types straight from a {@link BlockSnapshot}, as the world's node type cache
+     * holds the types of the live world and isn't safe to use off the server thread.
+     */
+    private static class SnapshotPathContext extends PathContext {
+        private final BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        private SnapshotPathContext(CollisionView world, MobEntity entity) {
+            super(world, entity);
+        }
+
+        @Override
+        public PathNodeType getNodeType(int x, int y, int z) {
+            return LandPathNodeMaker.getCommonNodeType(this.getWorld(), this.pos.set(x, y, z));
+        }
+    }
+}
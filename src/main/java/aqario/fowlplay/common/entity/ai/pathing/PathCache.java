@@ -0,0 +1,201 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import aqario.fowlplay.common.entity.Flocking;
+import aqario.fowlplay.common.entity.ai.flock.Flock;
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.entity.ai.pathing.LandPathNodeMaker;
+import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.entity.ai.pathing.PathNode;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Remembers the paths birds found to their walk targets, keyed on the target and whether the bird was flying,
+ * so that a bird, or any bird of the same flock, heading for the same target again doesn't search for a new path.
+ * Members of a {@link Flock} share its paths. Other flocking birds share paths with every bird of their species,
+ * which in practice are the birds flocking with them, as a path is only handed out to a bird near one of its nodes.
+ * When blocks change in a chunk section a path passes through, only its nodes in that section are checked again.
+ */
+public class PathCache {
+    static final int TTL = 200;
+    private static final int CLEANUP_INTERVAL = 100;
+    private static final double MAX_START_DISTANCE = 4.0;
+    private final ServerWorld world;
+    private final Object2ObjectMap<Key, Entry> entries = new Object2ObjectOpenHashMap<>();
+    // the last time a block changed in each chunk section, forgotten once no entry can be older
+    private final Long2LongMap sectionChanges = new Long2LongOpenHashMap();
+    private long lastCleanup;
+    private long hits;
+    private long misses;
+
+    public PathCache(ServerWorld world) {
+        this.world = world;
+        this.sectionChanges.defaultReturnValue(-1L);
+    }
+
+    public static PathCache get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getPathCache();
+    }
+
+    /**
+     * @return a copy of a still valid path to the target that starts near the entity, already advanced to the node closest to it
+     */
+    @Nullable
+    public Path getPath(MobEntity entity, BlockPos target) {
+        long time = this.world.getTime();
+        this.cleanup(time);
+        Key key = createKey(entity, target);
+        Entry entry = this.entries.get(key);
+        if (entry == null || isExpired(entry.time, time)) {
+            this.misses++;
+            return null;
+        }
+        if (!this.revalidate(entry, entity, time)) {
+            this.entries.remove(key);
+            this.misses++;
+            return null;
+        }
+        int closest = -1;
+        double closestDistance = MAX_START_DISTANCE * MAX_START_DISTANCE;
+        for (int i = 0; i < entry.nodes.size(); i++) {
+            double distance = entry.nodes.get(i).getBlockPos().getSquaredDistance(entity.getPos());
+            if (distance < closestDistance) {
+                closest = i;
+                closestDistance = distance;
+            }
+        }
+        if (closest < 0) {
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        Path path = new Path(new ArrayList<>(entry.nodes), entry.target, entry.reachesTarget);
+        path.setCurrentNodeIndex(closest);
+        return path;
+    }
+
+    public void putPath(MobEntity entity, BlockPos target, Path path) {
+        if (path.getLength() == 0) {
+            return;
+        }
+        Entry entry = new Entry();
+        entry.time = this.world.getTime();
+        entry.checkedTime = entry.time;
+        entry.target = path.getTarget();
+        entry.reachesTarget = path.reachesTarget();
+        entry.nodes = new ArrayList<>(path.getLength());
+        entry.sections = new LongOpenHashSet();
+        for (int i = 0; i < path.getLength(); i++) {
+            PathNode node = path.getNode(i);
+            entry.nodes.add(node);
+            entry.sections.add(ChunkSectionPos.toLong(node.getBlockPos()));
+        }
+        this.entries.put(createKey(entity, target), entry);
+    }
+
+    public void onBlockChanged(BlockPos pos) {
+        if (this.entries.isEmpty()) {
+            return;
+        }
+        this.sectionChanges.put(ChunkSectionPos.toLong(pos), this.world.getTime());
+    }
+
+    public long getHits() {
+        return this.hits;
+    }
+
+    public long getMisses() {
+        return this.misses;
+    }
+
+    private boolean revalidate(Entry entry, MobEntity entity, long time) {
+        LongSet changed = getChangedSections(entry.sections, this.sectionChanges, entry.checkedTime);
+        if (changed == null) {
+            return true;
+        }
+        for (PathNode node : entry.nodes) {
+            BlockPos pos = node.getBlockPos();
+            if (changed.contains(ChunkSectionPos.toLong(pos))
+                && entity.getPathfindingPenalty(LandPathNodeMaker.getCommonNodeType(this.world, pos)) < 0.0F) {
+                return false;
+            }
+        }
+        entry.checkedTime = time;
+        return true;
+    }
+
+    static boolean isExpired(long entryTime, long time) {
+        return time - entryTime >= TTL;
+    }
+
+    /**
+     * @param sectionChanges the last time a block changed in each section, -1 for sections without changes
+     * @return the sections a path passes through that had blocks change at or after it was last checked, or null if none did
+     */
+    @Nullable
+    static LongSet getChangedSections(LongSet sections, Long2LongMap sectionChanges, long checkedTime) {
+        if (sectionChanges.isEmpty()) {
+            return null;
+        }
+        LongSet changed = null;
+        for (long section : sections) {
+            if (sectionChanges.get(section) >= checkedTime) {
+                if (changed == null) {
+                    changed = new LongOpenHashSet();
+                }
+                changed.add(section);
+            }
+        }
+        return changed;
+    }
+
+    private void cleanup(long time) {
+        if (time - this.lastCleanup < CLEANUP_INTERVAL) {
+            return;
+        }
+        this.lastCleanup = time;
+        this.entries.values().removeIf(entry -> isExpired(entry.time, time));
+        this.sectionChanges.long2LongEntrySet().removeIf(change -> isExpired(change.getLongValue(), time));
+    }
+
+    private static Key createKey(MobEntity entity, BlockPos target) {
+        Object owner;
+        if (entity instanceof Flocking flocking) {
+            Flock flock = flocking.getFlock();
+            owner = flock != null ? flock : entity.getType();
+        }
+        else {
+            owner = entity.getUuid();
+        }
+        return new Key(owner, target.asLong(), entity.getNavigation() instanceof BirdNavigation);
+    }
+
+    /**
+     * @param owner the flock of the bird, compared by identity so a flock's paths go with it,
+     * the species of a flocking bird that isn't in one, or the uuid of any other bird
+     */
+    private record Key(Object owner, long target, boolean flying) {
+    }
+
+    private static class Entry {
+        private long time;
+        // blocks changed at or after this time haven't been checked against the path yet
+        private long checkedTime;
+        private BlockPos target;
+        private boolean reachesTarget;
+        private List<PathNode> nodes;
+        private LongSet sections;
+    }
+}
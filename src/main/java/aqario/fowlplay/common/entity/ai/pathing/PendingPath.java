@@ -0,0 +1,78 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A path search towards a walk target, which may still be running on a pathfinding worker.
+ * A fallback search heads for a reachable position near the walk target instead of the target itself,
+ * and a partial search only heads for the next waypoint of a long flight towards it.
+ */
+public class PendingPath {
+    private final BlockPos walkTarget;
+    private final boolean fallback;
+    private final boolean partial;
+    private final long requestTime;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    @Nullable
+    private volatile Path path;
+
+    public PendingPath(BlockPos walkTarget, boolean fallback, boolean partial, long requestTime) {
+        this.walkTarget = walkTarget;
+        this.fallback = fallback;
+        this.partial = partial;
+        this.requestTime = requestTime;
+    }
+
+    public static PendingPath of(BlockPos walkTarget, boolean fallback, long requestTime, @Nullable Path path) {
+        PendingPath pending = new PendingPath(walkTarget, fallback, false, requestTime);
+        pending.complete(path);
+        return pending;
+    }
+
+    public boolean isFor(BlockPos walkTarget) {
+        return this.walkTarget.equals(walkTarget);
+    }
+
+    public boolean isFallback() {
+        return this.fallback;
+    }
+
+    public boolean isPartial() {
+        return this.partial;
+    }
+
+    public long getRequestTime() {
+        return this.requestTime;
+    }
+
+    public boolean isDone() {
+        return this.done;
+    }
+
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * @return the path found, or null if there is none or the search hasn't finished
+     */
+    @Nullable
+    public Path getPath() {
+        return this.path;
+    }
+
+    void complete(@Nullable Path path) {
+        this.path = path;
+        this.done = true;
+    }
+
+    /**
+     * Marks the search as no longer needed, so a worker that hasn't picked it up yet skips it.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+}
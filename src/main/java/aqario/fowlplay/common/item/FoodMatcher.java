@@ -0,0 +1,105 @@
+package aqario.fowlplay.common.item;
+
+import aqario.fowlplay.common.tags.FowlPlayItemTags;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Matches the food of a species of bird by raw item id. Each food tag is resolved into a set of item ids
+ * once, and again whenever tags are reloaded, so matching a stack neither allocates nor reads the tag.
+ */
+public final class FoodMatcher {
+    private static final List<FoodMatcher> MATCHERS = new ArrayList<>();
+    public static final FoodMatcher BLUE_JAY = create(FowlPlayItemTags.BLUE_JAY_FOOD);
+    public static final FoodMatcher CARDINAL = create(FowlPlayItemTags.CARDINAL_FOOD);
+    public static final FoodMatcher CHICKADEE = create(FowlPlayItemTags.CHICKADEE_FOOD);
+    public static final FoodMatcher DUCK = create(FowlPlayItemTags.DUCK_FOOD);
+    public static final FoodMatcher GULL = create(FowlPlayItemTags.GULL_FOOD);
+    public static final FoodMatcher HAWK = create(FowlPlayItemTags.HAWK_FOOD);
+    public static final FoodMatcher PENGUIN = create(FowlPlayItemTags.PENGUIN_FOOD);
+    public static final FoodMatcher PIGEON = create(FowlPlayItemTags.PIGEON_FOOD);
+    public static final FoodMatcher RAVEN = create(FowlPlayItemTags.RAVEN_FOOD);
+    public static final FoodMatcher ROBIN = create(FowlPlayItemTags.ROBIN_FOOD);
+    public static final FoodMatcher SPARROW = create(FowlPlayItemTags.SPARROW_FOOD);
+    private static volatile int generation;
+    private final int id;
+    private final TagKey<Item> tag;
+    // replaced rather than cleared on reload, as the client and integrated server share matchers
+    private volatile BitSet items = new BitSet();
+
+    private FoodMatcher(int id, TagKey<Item> tag) {
+        this.id = id;
+        this.tag = tag;
+    }
+
+    private static FoodMatcher create(TagKey<Item> tag) {
+        FoodMatcher matcher = new FoodMatcher(MATCHERS.size(), tag);
+        MATCHERS.add(matcher);
+        return matcher;
+    }
+
+    public boolean matches(ItemStack stack) {
+        return !stack.isEmpty() && this.matches(Registries.ITEM.getRawId(stack.getItem()));
+    }
+
+    boolean matches(int rawId) {
+        return this.items.get(rawId);
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    private void rebuild() {
+        BitSet items = new BitSet();
+        for (RegistryEntry<Item> entry : Registries.ITEM.iterateEntries(this.tag)) {
+            items.set(Registries.ITEM.getRawId(entry.value()));
+        }
+        this.setItems(items);
+    }
+
+    void setItems(BitSet items) {
+        this.items = items;
+    }
+
+    /**
+     * Resolves every food tag again, called once tags are loaded.
+     */
+    public static void rebuildAll() {
+        for (FoodMatcher matcher : MATCHERS) {
+            matcher.rebuild();
+        }
+        generation++;
+    }
+
+    /**
+     * @return a bit mask of the ids of the matchers the stack matches
+     */
+    public static int getMask(ItemStack stack) {
+        int mask = 0;
+        for (FoodMatcher matcher : MATCHERS) {
+            if (matcher.matches(stack)) {
+                mask |= 1 << matcher.id;
+            }
+        }
+        return mask;
+    }
+
+    public static int count() {
+        return MATCHERS.size();
+    }
+
+    /**
+     * @return a number that changes every time the matchers are rebuilt
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+}
@@ -0,0 +1,110 @@
+package aqario.fowlplay.common.world;
+
+import aqario.fowlplay.common.entity.BirdEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.entity.EntityType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.UUID;
+
+/**
+ * The number of birds of each species in every chunk section of a world, kept up to date as birds
+ * are loaded, unloaded and move between sections, so that spawners can count nearby birds without
+ * searching for entities.
+ */
+public class BirdPopulationMap {
+    private final Long2ObjectMap<Object2IntMap<EntityType<?>>> counts = new Long2ObjectOpenHashMap<>();
+    // the section each bird was last counted in, by uuid
+    private final Object2LongMap<UUID> sections = new Object2LongOpenHashMap<>();
+
+    public static BirdPopulationMap get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getBirdPopulationMap();
+    }
+
+    public void onLoaded(BirdEntity bird) {
+        this.onLoaded(bird.getUuid(), bird.getType(), ChunkSectionPos.toLong(bird.getBlockPos()));
+    }
+
+    public void onUnloaded(BirdEntity bird) {
+        this.onUnloaded(bird.getUuid(), bird.getType());
+    }
+
+    /**
+     * Moves the bird to the section it is entering, called as its position changes so that birds without AI are followed too.
+     */
+    public void onSectionChanged(BirdEntity bird, long section) {
+        this.onMoved(bird.getUuid(), bird.getType(), section);
+    }
+
+    void onLoaded(UUID bird, EntityType<?> type, long section) {
+        if (this.sections.containsKey(bird)) {
+            return;
+        }
+        this.sections.put(bird, section);
+        this.add(section, type, 1);
+    }
+
+    void onUnloaded(UUID bird, EntityType<?> type) {
+        if (!this.sections.containsKey(bird)) {
+            return;
+        }
+        this.add(this.sections.removeLong(bird), type, -1);
+    }
+
+    void onMoved(UUID bird, EntityType<?> type, long section) {
+        if (!this.sections.containsKey(bird)) {
+            return;
+        }
+        long previous = this.sections.put(bird, section);
+        if (previous != section) {
+            this.add(previous, type, -1);
+            this.add(section, type, 1);
+        }
+    }
+
+    /**
+     * Counts the birds of a species within a box around a position, as spawners used to search for them.
+     * The box is rounded out to whole chunk sections, so birds up to a section beyond it may be counted too.
+     */
+    public int count(EntityType<?> type, BlockPos pos, int horizontalRadius, int verticalRadius) {
+        int minX = ChunkSectionPos.getSectionCoord(pos.getX() - horizontalRadius);
+        int minY = ChunkSectionPos.getSectionCoord(pos.getY() - verticalRadius);
+        int minZ = ChunkSectionPos.getSectionCoord(pos.getZ() - horizontalRadius);
+        int maxX = ChunkSectionPos.getSectionCoord(pos.getX() + horizontalRadius);
+        int maxY = ChunkSectionPos.getSectionCoord(pos.getY() + verticalRadius);
+        int maxZ = ChunkSectionPos.getSectionCoord(pos.getZ() + horizontalRadius);
+        int total = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    Object2IntMap<EntityType<?>> section = this.counts.get(ChunkSectionPos.asLong(x, y, z));
+                    if (section != null) {
+                        total += section.getInt(type);
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    private void add(long section, EntityType<?> type, int amount) {
+        Object2IntMap<EntityType<?>> sectionCounts = this.counts.computeIfAbsent(section, s -> new Object2IntOpenHashMap<>());
+        int count = sectionCounts.getInt(type) + amount;
+        if (count > 0) {
+            sectionCounts.put(type, count);
+        }
+        else {
+            sectionCounts.removeInt(type);
+            if (sectionCounts.isEmpty()) {
+                this.counts.remove(section);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package aqario.fowlplay.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A uniform grid of the living entities in a world, keyed by chunk section.
+ * The grid is rebuilt at most once per tick, the first time it is queried,
+ * so that bird sensors don't each walk the world's entity sections again.
+ */
+public class BirdSpatialIndex {
+    // entities may have moved since the grid was built, so neighbouring sections are searched too
+    private static final double QUERY_MARGIN = 2.0;
+    private final ServerWorld world;
+    private final Long2ObjectMap<List<LivingEntity>> sections = new Long2ObjectOpenHashMap<>();
+    private int lastUpdateTick = -1;
+
+    public BirdSpatialIndex(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static BirdSpatialIndex get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getBirdSpatialIndex();
+    }
+
+    private void update() {
+        int tick = this.world.getServer().getTicks();
+        if (tick == this.lastUpdateTick) {
+            return;
+        }
+        this.lastUpdateTick = tick;
+        this.world.getProfiler().push("birdSpatialIndex");
+        this.sections.clear();
+        for (Entity entity : this.world.iterateEntities()) {
+            if (entity instanceof LivingEntity living && living.isAlive()) {
+                long key = ChunkSectionPos.asLong(
+                    ChunkSectionPos.getSectionCoord(entity.getBlockX()),
+                    ChunkSectionPos.getSectionCoord(entity.getBlockY()),
+                    ChunkSectionPos.getSectionCoord(entity.getBlockZ())
+                );
+                this.sections.computeIfAbsent(key, k -> new ArrayList<>()).add(living);
+            }
+        }
+        this.world.getProfiler().pop();
+    }
+
+    /**
+     * Collects every living entity whose bounding box intersects the given box into {@code results}.
+     */
+    public void collect(Box box, Predicate<? super LivingEntity> predicate, List<LivingEntity> results) {
+        this.update();
+        int minX = ChunkSectionPos.getSectionCoordFloored(box.minX - QUERY_MARGIN);
+        int minY = ChunkSectionPos.getSectionCoordFloored(box.minY - QUERY_MARGIN);
+        int minZ = ChunkSectionPos.getSectionCoordFloored(box.minZ - QUERY_MARGIN);
+        int maxX = ChunkSectionPos.getSectionCoordFloored(box.maxX + QUERY_MARGIN);
+        int maxY = ChunkSectionPos.getSectionCoordFloored(box.maxY + QUERY_MARGIN);
+        int maxZ = ChunkSectionPos.getSectionCoordFloored(box.maxZ + QUERY_MARGIN);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    List<LivingEntity> section = this.sections.get(ChunkSectionPos.asLong(x, y, z));
+                    if (section == null) {
+                        continue;
+                    }
+                    for (LivingEntity entity : section) {
+                        if (entity.isAlive() && box.intersects(entity.getBoundingBox()) && predicate.test(entity)) {
+                            results.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public List<LivingEntity> getEntities(Box box, Predicate<? super LivingEntity> predicate) {
+        List<LivingEntity> results = new ArrayList<>();
+        this.collect(box, predicate, results);
+        return results;
+    }
+}
@@ -0,0 +1,96 @@
+package aqario.fowlplay.common.world;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import java.util.function.Predicate;
+
+/**
+ * Exclusive claims of claimants on targets that lapse unless renewed, with at most one claim per claimant.
+ * The bookkeeping behind the {@link FoodReservationTable}, kept apart from entities and world time.
+ */
+class ClaimTable<C, T> {
+    private final int ttl;
+    // a claimant that is no longer valid loses its claim straight away
+    private final Predicate<C> validClaimant;
+    private final Reference2ObjectMap<T, Claim<C>> claims = new Reference2ObjectOpenHashMap<>();
+    private final Reference2ObjectMap<C, T> claimedTargets = new Reference2ObjectOpenHashMap<>();
+
+    ClaimTable(int ttl, Predicate<C> validClaimant) {
+        this.ttl = ttl;
+        this.validClaimant = validClaimant;
+    }
+
+    boolean tryClaim(C claimant, T target, long time) {
+        Claim<C> claim = this.claims.get(target);
+        if (claim != null && claim.claimant != claimant && this.isValid(claim, time)) {
+            return false;
+        }
+        T previous = this.claimedTargets.put(claimant, target);
+        if (previous != null && previous != target) {
+            this.removeClaim(claimant, previous);
+        }
+        this.claims.put(target, new Claim<>(claimant, time + this.ttl));
+        return true;
+    }
+
+    void renew(C claimant, T target, long time) {
+        Claim<C> claim = this.claims.get(target);
+        if (claim != null && claim.claimant == claimant) {
+            claim.expiry = time + this.ttl;
+        }
+    }
+
+    boolean isClaimedByOther(C claimant, T target, long time) {
+        Claim<C> claim = this.claims.get(target);
+        return claim != null && claim.claimant != claimant && this.isValid(claim, time);
+    }
+
+    void releaseTarget(T target) {
+        Claim<C> claim = this.claims.remove(target);
+        if (claim != null) {
+            this.claimedTargets.remove(claim.claimant, target);
+        }
+    }
+
+    void releaseClaimant(C claimant) {
+        T target = this.claimedTargets.remove(claimant);
+        if (target != null) {
+            this.removeClaim(claimant, target);
+        }
+    }
+
+    private void removeClaim(C claimant, T target) {
+        Claim<C> claim = this.claims.get(target);
+        // the claim may have lapsed and been taken over by another claimant
+        if (claim != null && claim.claimant == claimant) {
+            this.claims.remove(target);
+        }
+    }
+
+    void cleanup(long time) {
+        this.claims.values().removeIf(claim -> !this.isValid(claim, time));
+        this.claimedTargets.reference2ObjectEntrySet().removeIf(entry -> {
+            Claim<C> claim = this.claims.get(entry.getValue());
+            return claim == null || claim.claimant != entry.getKey();
+        });
+    }
+
+    int size() {
+        return this.claims.size();
+    }
+
+    private boolean isValid(Claim<C> claim, long time) {
+        return time < claim.expiry && this.validClaimant.test(claim.claimant);
+    }
+
+    private static class Claim<C> {
+        private final C claimant;
+        private long expiry;
+
+        private Claim(C claimant, long expiry) {
+            this.claimant = claimant;
+            this.expiry = expiry;
+        }
+    }
+}
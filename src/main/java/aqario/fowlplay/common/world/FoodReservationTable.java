@@ -0,0 +1,69 @@
+package aqario.fowlplay.common.world;
+
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.world.ServerWorld;
+
+/**
+ * The dropped items birds in a world are going for. A bird claims an item when it starts walking to it,
+ * and other birds look for the nearest unclaimed item instead, so that a flock being fed spreads out over the food
+ * rather than all pathing to the same item. A bird holds at most one claim, which lapses after a while unless
+ * the bird keeps renewing it as it walks to the item, and is released when the bird stops walking to the item
+ * or the item is picked up or despawns.
+ */
+public class FoodReservationTable {
+    static final int TTL = 60;
+    private static final int CLEANUP_INTERVAL = 200;
+    private final ServerWorld world;
+    private final ClaimTable<LivingEntity, ItemEntity> claims = new ClaimTable<>(TTL, LivingEntity::isAlive);
+    private long lastCleanup;
+
+    public FoodReservationTable(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static FoodReservationTable get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getFoodReservationTable();
+    }
+
+    /**
+     * Claims the item for the entity, unless another entity holds a claim on it, dropping the entity's claim on any other item.
+     *
+     * @return whether the entity now holds the claim
+     */
+    public boolean tryClaim(LivingEntity entity, ItemEntity item) {
+        long time = this.world.getTime();
+        this.cleanup(time);
+        return this.claims.tryClaim(entity, item, time);
+    }
+
+    /**
+     * Extends the entity's claim on the item, if it holds one.
+     */
+    public void renew(LivingEntity entity, ItemEntity item) {
+        this.claims.renew(entity, item, this.world.getTime());
+    }
+
+    public boolean isClaimedByOther(LivingEntity entity, ItemEntity item) {
+        return this.claims.isClaimedByOther(entity, item, this.world.getTime());
+    }
+
+    public void release(ItemEntity item) {
+        this.claims.releaseTarget(item);
+    }
+
+    /**
+     * Releases the entity's claim, if it holds one.
+     */
+    public void release(LivingEntity entity) {
+        this.claims.releaseClaimant(entity);
+    }
+
+    private void cleanup(long time) {
+        if (time - this.lastCleanup < CLEANUP_INTERVAL) {
+            return;
+        }
+        this.lastCleanup = time;
+        this.claims.cleanup(time);
+    }
+}
@@ -0,0 +1,5 @@
+package aqario.fowlplay.common.world;
+
+public interface FowlPlayServerWorld {
+    FowlPlayWorldState fowlplay$getState();
+}
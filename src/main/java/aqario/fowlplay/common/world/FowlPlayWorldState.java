@@ -0,0 +1,134 @@
+package aqario.fowlplay.common.world;
+
+import aqario.fowlplay.common.entity.ai.brain.BirdBrainBudget;
+import aqario.fowlplay.common.entity.ai.brain.BirdWakeRegistry;
+import aqario.fowlplay.common.entity.ai.brain.TemptingPlayerTracker;
+import aqario.fowlplay.common.entity.ai.flock.FlockSimulation;
+import aqario.fowlplay.common.entity.ai.pathing.BlockSnapshotCache;
+import aqario.fowlplay.common.entity.ai.pathing.FlightRoutePlanner;
+import aqario.fowlplay.common.entity.ai.pathing.PathCache;
+import aqario.fowlplay.common.world.gen.BirdSpawnScheduler;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Holds the per-world bird subsystems and forwards world changes to the ones
+ * that cache terrain.
+ */
+public class FowlPlayWorldState {
+    private final BirdSpatialIndex birdSpatialIndex;
+    private final BirdBrainBudget birdBrainBudget;
+    private final BirdWakeRegistry birdWakeRegistry;
+    private final FlockSimulation flockSimulation;
+    private final PerchSiteIndex perchSiteIndex;
+    private final LineOfSightCache lineOfSightCache;
+    private final TemptingPlayerTracker temptingPlayerTracker;
+    private final PathCache pathCache;
+    private final FlightRoutePlanner flightRoutePlanner;
+    private final BirdSpawnScheduler birdSpawnScheduler;
+    private final BirdPopulationMap birdPopulationMap;
+    private final SettlementDensityMap settlementDensityMap;
+    private final WantedItemIndex wantedItemIndex;
+    private final FoodReservationTable foodReservationTable;
+    private final BlockSnapshotCache blockSnapshotCache;
+
+    public FowlPlayWorldState(ServerWorld world) {
+        this.birdSpatialIndex = new BirdSpatialIndex(world);
+        this.birdBrainBudget = new BirdBrainBudget(world);
+        this.birdWakeRegistry = new BirdWakeRegistry(world);
+        this.flockSimulation = new FlockSimulation(world);
+        this.perchSiteIndex = new PerchSiteIndex(world);
+        this.lineOfSightCache = new LineOfSightCache(world);
+        this.temptingPlayerTracker = new TemptingPlayerTracker(world);
+        this.pathCache = new PathCache(world);
+        this.flightRoutePlanner = new FlightRoutePlanner(world);
+        this.birdSpawnScheduler = new BirdSpawnScheduler(world);
+        this.birdPopulationMap = new BirdPopulationMap();
+        this.settlementDensityMap = new SettlementDensityMap(world);
+        this.wantedItemIndex = new WantedItemIndex(world);
+        this.foodReservationTable = new FoodReservationTable(world);
+        this.blockSnapshotCache = new BlockSnapshotCache(world);
+    }
+
+    public static FowlPlayWorldState get(ServerWorld world) {
+        return ((FowlPlayServerWorld) world).fowlplay$getState();
+    }
+
+    public void onBlockChanged(BlockPos pos, BlockState oldBlock, BlockState newBlock) {
+        this.birdWakeRegistry.onBlockChanged(pos);
+        this.perchSiteIndex.onBlockChanged(pos);
+        this.lineOfSightCache.onBlockChanged(pos);
+        this.pathCache.onBlockChanged(pos);
+        this.flightRoutePlanner.onBlockChanged(pos);
+        this.settlementDensityMap.onBlockChanged(pos, oldBlock, newBlock);
+        this.blockSnapshotCache.onBlockChanged(pos);
+    }
+
+    public void onChunkUnloaded(ChunkPos pos) {
+        this.perchSiteIndex.onChunkUnloaded(pos);
+        this.flightRoutePlanner.onChunkUnloaded(pos);
+        this.blockSnapshotCache.onChunkUnloaded(pos);
+    }
+
+    public BirdSpatialIndex getBirdSpatialIndex() {
+        return this.birdSpatialIndex;
+    }
+
+    public BirdBrainBudget getBirdBrainBudget() {
+        return this.birdBrainBudget;
+    }
+
+    public BirdWakeRegistry getBirdWakeRegistry() {
+        return this.birdWakeRegistry;
+    }
+
+    public FlockSimulation getFlockSimulation() {
+        return this.flockSimulation;
+    }
+
+    public PerchSiteIndex getPerchSiteIndex() {
+        return this.perchSiteIndex;
+    }
+
+    public LineOfSightCache getLineOfSightCache() {
+        return this.lineOfSightCache;
+    }
+
+    public TemptingPlayerTracker getTemptingPlayerTracker() {
+        return this.temptingPlayerTracker;
+    }
+
+    public PathCache getPathCache() {
+        return this.pathCache;
+    }
+
+    public FlightRoutePlanner getFlightRoutePlanner() {
+        return this.flightRoutePlanner;
+    }
+
+    public BirdSpawnScheduler getBirdSpawnScheduler() {
+        return this.birdSpawnScheduler;
+    }
+
+    public BirdPopulationMap getBirdPopulationMap() {
+        return this.birdPopulationMap;
+    }
+
+    public SettlementDensityMap getSettlementDensityMap() {
+        return this.settlementDensityMap;
+    }
+
+    public WantedItemIndex getWantedItemIndex() {
+        return this.wantedItemIndex;
+    }
+
+    public FoodReservationTable getFoodReservationTable() {
+        return this.foodReservationTable;
+    }
+
+    public BlockSnapshotCache getBlockSnapshotCache() {
+        return this.blockSnapshotCache;
+    }
+}
@@ -0,0 +1,118 @@
+package aqario.fowlplay.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+
+/**
+ * Remembers whether a bird could see another entity for a few ticks, so that the same pair isn't raycast again
+ * by every sensor pass. A result is dropped when either entity moves to another block, or when a block changes
+ * in one of the chunk sections between their eyes.
+ */
+public class LineOfSightCache {
+    private static final int TTL = 10;
+    private static final int CLEANUP_INTERVAL = 100;
+    private final ServerWorld world;
+    private final Long2ObjectMap<Entry> entries = new Long2ObjectOpenHashMap<>();
+    // the last time a block changed in each chunk section, forgotten once no entry can be older
+    private final Long2LongMap sectionChanges = new Long2LongOpenHashMap();
+    private long lastCleanup;
+    private long hits;
+    private long misses;
+
+    public LineOfSightCache(ServerWorld world) {
+        this.world = world;
+        this.sectionChanges.defaultReturnValue(-1L);
+    }
+
+    public static LineOfSightCache get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getLineOfSightCache();
+    }
+
+    public boolean canSee(LivingEntity observer, Entity target) {
+        long time = this.world.getTime();
+        this.cleanup(time);
+        long key = ((long) observer.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+        long observerPos = BlockPos.ofFloored(observer.getX(), observer.getEyeY(), observer.getZ()).asLong();
+        long targetPos = BlockPos.ofFloored(target.getX(), target.getEyeY(), target.getZ()).asLong();
+        Entry entry = this.entries.get(key);
+        if (entry != null
+            && time - entry.time < TTL
+            && entry.observerPos == observerPos
+            && entry.targetPos == targetPos
+            && !this.changedSince(observerPos, targetPos, entry.time)
+        ) {
+            this.hits++;
+            return entry.visible;
+        }
+        this.misses++;
+        if (entry == null) {
+            entry = new Entry();
+            this.entries.put(key, entry);
+        }
+        entry.time = time;
+        entry.observerPos = observerPos;
+        entry.targetPos = targetPos;
+        entry.visible = observer.canSee(target);
+        return entry.visible;
+    }
+
+    public void onBlockChanged(BlockPos pos) {
+        if (this.entries.isEmpty()) {
+            return;
+        }
+        this.sectionChanges.put(ChunkSectionPos.toLong(pos), this.world.getTime());
+    }
+
+    public long getHits() {
+        return this.hits;
+    }
+
+    public long getMisses() {
+        return this.misses;
+    }
+
+    private boolean changedSince(long observerPos, long targetPos, long time) {
+        if (this.sectionChanges.isEmpty()) {
+            return false;
+        }
+        int x1 = ChunkSectionPos.getSectionCoord(BlockPos.unpackLongX(observerPos));
+        int y1 = ChunkSectionPos.getSectionCoord(BlockPos.unpackLongY(observerPos));
+        int z1 = ChunkSectionPos.getSectionCoord(BlockPos.unpackLongZ(observerPos));
+        int x2 = ChunkSectionPos.getSectionCoord(BlockPos.unpackLongX(targetPos));
+        int y2 = ChunkSectionPos.getSectionCoord(BlockPos.unpackLongY(targetPos));
+        int z2 = ChunkSectionPos.getSectionCoord(BlockPos.unpackLongZ(targetPos));
+        for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); x++) {
+            for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); y++) {
+                for (int z = Math.min(z1, z2); z <= Math.max(z1, z2); z++) {
+                    if (this.sectionChanges.get(ChunkSectionPos.asLong(x, y, z)) >= time) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void cleanup(long time) {
+        if (time - this.lastCleanup < CLEANUP_INTERVAL) {
+            return;
+        }
+        this.lastCleanup = time;
+        this.entries.values().removeIf(entry -> time - entry.time >= TTL);
+        this.sectionChanges.long2LongEntrySet().removeIf(change -> time - change.getLongValue() >= TTL);
+    }
+
+    private static class Entry {
+        private long time;
+        private long observerPos;
+        private long targetPos;
+        private boolean visible;
+    }
+}
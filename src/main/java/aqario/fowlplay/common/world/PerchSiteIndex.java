@@ -0,0 +1,154 @@
+package aqario.fowlplay.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The air blocks directly above leaves or logs in a world, where birds can perch.
+ * Sites are found lazily one chunk section at a time, and a section is forgotten
+ * when a block in or next to it changes or its chunk unloads.
+ */
+public class PerchSiteIndex {
+    private final ServerWorld world;
+    private final Long2ObjectMap<Section> sections = new Long2ObjectOpenHashMap<>();
+
+    public PerchSiteIndex(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static PerchSiteIndex get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getPerchSiteIndex();
+    }
+
+    private static boolean isPerchable(BlockState state) {
+        return state.isIn(BlockTags.LEAVES) || state.isIn(BlockTags.LOGS);
+    }
+
+    /**
+     * Finds the perch site inside {@code bounds} closest to {@code origin}.
+     *
+     * @param needsHeadroom whether the block above the site has to be air as well
+     */
+    @Nullable
+    public BlockPos findNearest(Vec3d origin, BlockBox bounds, boolean needsHeadroom) {
+        BlockPos nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        int minY = Math.max(ChunkSectionPos.getSectionCoord(bounds.getMinY()), this.world.getBottomSectionCoord());
+        int maxY = Math.min(ChunkSectionPos.getSectionCoord(bounds.getMaxY()), this.world.getTopSectionCoord() - 1);
+        for (int x = ChunkSectionPos.getSectionCoord(bounds.getMinX()); x <= ChunkSectionPos.getSectionCoord(bounds.getMaxX()); x++) {
+            for (int z = ChunkSectionPos.getSectionCoord(bounds.getMinZ()); z <= ChunkSectionPos.getSectionCoord(bounds.getMaxZ()); z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    Section section = this.getSection(x, y, z);
+                    if (section == null) {
+                        continue;
+                    }
+                    LongArrayList sites = needsHeadroom ? section.roomySites : section.sites;
+                    for (int i = 0; i < sites.size(); i++) {
+                        long site = sites.getLong(i);
+                        int siteX = BlockPos.unpackLongX(site);
+                        int siteY = BlockPos.unpackLongY(site);
+                        int siteZ = BlockPos.unpackLongZ(site);
+                        if (!bounds.contains(siteX, siteY, siteZ)) {
+                            continue;
+                        }
+                        double distance = origin.squaredDistanceTo(siteX + 0.5, siteY, siteZ + 0.5);
+                        if (distance < nearestDistance) {
+                            nearestDistance = distance;
+                            nearest = new BlockPos(siteX, siteY, siteZ);
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * A change to a block affects the sites in, above and below it.
+     */
+    public void onBlockChanged(BlockPos pos) {
+        int x = ChunkSectionPos.getSectionCoord(pos.getX());
+        int z = ChunkSectionPos.getSectionCoord(pos.getZ());
+        for (int dy = -1; dy <= 1; dy++) {
+            this.sections.remove(ChunkSectionPos.asLong(x, ChunkSectionPos.getSectionCoord(pos.getY() + dy), z));
+        }
+    }
+
+    public void onChunkUnloaded(ChunkPos pos) {
+        if (this.sections.isEmpty()) {
+            return;
+        }
+        for (int y = this.world.getBottomSectionCoord(); y < this.world.getTopSectionCoord(); y++) {
+            this.sections.remove(ChunkSectionPos.asLong(pos.x, y, pos.z));
+        }
+    }
+
+    @Nullable
+    private Section getSection(int x, int y, int z) {
+        long key = ChunkSectionPos.asLong(x, y, z);
+        Section section = this.sections.get(key);
+        if (section != null) {
+            return section;
+        }
+        WorldChunk chunk = this.world.getChunkManager().getWorldChunk(x, z);
+        if (chunk == null) {
+            return null;
+        }
+        section = this.scan(chunk.getSection(this.world.sectionCoordToIndex(y)), x, y, z);
+        this.sections.put(key, section);
+        return section;
+    }
+
+    private Section scan(ChunkSection chunkSection, int sectionX, int sectionY, int sectionZ) {
+        Section section = new Section();
+        this.world.getProfiler().push("perchSiteScan");
+        // without leaves or logs in the section, sites can only rest on the section below
+        int height = chunkSection.hasAny(PerchSiteIndex::isPerchable) ? 16 : 1;
+        int minX = ChunkSectionPos.getBlockCoord(sectionX);
+        int minY = ChunkSectionPos.getBlockCoord(sectionY);
+        int minZ = ChunkSectionPos.getBlockCoord(sectionZ);
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (int y = 0; y < height; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    if (!chunkSection.getBlockState(x, y, z).isAir()) {
+                        continue;
+                    }
+                    BlockState below = y > 0
+                        ? chunkSection.getBlockState(x, y - 1, z)
+                        : this.world.getBlockState(mutable.set(minX + x, minY - 1, minZ + z));
+                    if (!isPerchable(below)) {
+                        continue;
+                    }
+                    long site = BlockPos.asLong(minX + x, minY + y, minZ + z);
+                    section.sites.add(site);
+                    BlockState above = y < 15
+                        ? chunkSection.getBlockState(x, y + 1, z)
+                        : this.world.getBlockState(mutable.set(minX + x, minY + 16, minZ + z));
+                    if (above.isAir()) {
+                        section.roomySites.add(site);
+                    }
+                }
+            }
+        }
+        this.world.getProfiler().pop();
+        return section;
+    }
+
+    private static class Section {
+        private final LongArrayList sites = new LongArrayList();
+        private final LongArrayList roomySites = new LongArrayList();
+    }
+}
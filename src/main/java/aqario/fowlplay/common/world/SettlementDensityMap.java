@@ -0,0 +1,110 @@
+package aqario.fowlplay.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.poi.PointOfInterestStorage;
+import net.minecraft.world.poi.PointOfInterestTypes;
+
+/**
+ * The occupied homes in each loaded chunk of a world, for telling how built up an area is.
+ * Their positions are read lazily, forgotten when a point of interest block in the chunk is placed or removed,
+ * and read again after a while to catch villagers claiming or leaving beds.
+ */
+public class SettlementDensityMap {
+    private static final int TTL = 1200;
+    private static final int CLEANUP_INTERVAL = 1200;
+    private final ServerWorld world;
+    private final Long2ObjectMap<Entry> chunks = new Long2ObjectOpenHashMap<>();
+    private long lastCleanup;
+
+    public SettlementDensityMap(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static SettlementDensityMap get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getSettlementDensityMap();
+    }
+
+    /**
+     * Counts the occupied homes in loaded chunks within a radius of a position, as the point of interest storage does.
+     */
+    public int countOccupiedHomes(BlockPos pos, int radius) {
+        long time = this.world.getTime();
+        this.cleanup(time);
+        int minX = ChunkSectionPos.getSectionCoord(pos.getX() - radius);
+        int minZ = ChunkSectionPos.getSectionCoord(pos.getZ() - radius);
+        int maxX = ChunkSectionPos.getSectionCoord(pos.getX() + radius);
+        int maxZ = ChunkSectionPos.getSectionCoord(pos.getZ() + radius);
+        long maxDistance = (long) radius * radius;
+        int total = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                LongList homes = this.getOccupiedHomes(x, z, time);
+                for (int i = 0; i < homes.size(); i++) {
+                    long home = homes.getLong(i);
+                    long dx = BlockPos.unpackLongX(home) - pos.getX();
+                    long dy = BlockPos.unpackLongY(home) - pos.getY();
+                    long dz = BlockPos.unpackLongZ(home) - pos.getZ();
+                    if (dx * dx + dy * dy + dz * dz <= maxDistance) {
+                        total++;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public void onBlockChanged(BlockPos pos, BlockState oldState, BlockState newState) {
+        if (PointOfInterestTypes.isPointOfInterest(oldState) || PointOfInterestTypes.isPointOfInterest(newState)) {
+            this.chunks.remove(ChunkPos.toLong(pos));
+        }
+    }
+
+    private LongList getOccupiedHomes(int chunkX, int chunkZ, long time) {
+        long key = ChunkPos.toLong(chunkX, chunkZ);
+        Entry entry = this.chunks.get(key);
+        if (entry != null && time - entry.time < TTL) {
+            return entry.homes;
+        }
+        // reading an unloaded chunk's points of interest would load them from disk
+        if (!this.world.isChunkLoaded(chunkX, chunkZ)) {
+            return LongLists.EMPTY_LIST;
+        }
+        if (entry == null) {
+            entry = new Entry();
+            this.chunks.put(key, entry);
+        }
+        LongList homes = new LongArrayList();
+        this.world.getPointOfInterestStorage()
+            .getInChunk(
+                holder -> holder.matchesKey(PointOfInterestTypes.HOME),
+                new ChunkPos(chunkX, chunkZ),
+                PointOfInterestStorage.OccupationStatus.IS_OCCUPIED
+            )
+            .forEach(poi -> homes.add(poi.getPos().asLong()));
+        entry.time = time;
+        entry.homes = homes;
+        return homes;
+    }
+
+    private void cleanup(long time) {
+        if (time - this.lastCleanup < CLEANUP_INTERVAL) {
+            return;
+        }
+        this.lastCleanup = time;
+        this.chunks.values().removeIf(entry -> time - entry.time >= TTL);
+    }
+
+    private static class Entry {
+        private long time;
+        private LongList homes;
+    }
+}
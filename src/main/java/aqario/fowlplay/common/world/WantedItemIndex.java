@@ -0,0 +1,209 @@
+package aqario.fowlplay.common.world;
+
+import aqario.fowlplay.common.item.FoodMatcher;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSet;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The dropped items in a world that some bird eats, bucketed by chunk section separately for each species of bird
+ * that eats them, so that a bird looking for food only goes through the sections near it and the items it wants.
+ * Items are added and removed as they are loaded and unloaded, which covers spawning, merging, pickup and despawning,
+ * and moved between sections as they cross section borders or their stack changes. After a tag reload changes
+ * which birds eat what, the index is rebuilt from the world's entities the next time it is queried.
+ */
+public class WantedItemIndex {
+    private final ServerWorld world;
+    private final Reference2ObjectMap<ItemEntity, Entry> items = new Reference2ObjectOpenHashMap<>();
+    // the sections of each food matcher, by matcher id
+    private final List<Long2ObjectMap<ReferenceSet<ItemEntity>>> sections = new ArrayList<>();
+    private int generation;
+
+    public WantedItemIndex(ServerWorld world) {
+        this.world = world;
+        this.generation = FoodMatcher.getGeneration();
+        for (int id = 0; id < FoodMatcher.count(); id++) {
+            this.sections.add(new Long2ObjectOpenHashMap<>());
+        }
+    }
+
+    public static WantedItemIndex get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getWantedItemIndex();
+    }
+
+    public void onLoaded(ItemEntity item) {
+        if (this.items.containsKey(item)) {
+            return;
+        }
+        int mask = FoodMatcher.getMask(item.getStack());
+        if (mask == 0) {
+            return;
+        }
+        Entry entry = new Entry();
+        this.items.put(item, entry);
+        this.place(item, entry, getSection(item), mask);
+    }
+
+    public void onUnloaded(ItemEntity item) {
+        Entry entry = this.items.remove(item);
+        if (entry != null) {
+            this.unbucket(item, entry);
+        }
+    }
+
+    /**
+     * Called as the item is about to move into another chunk section.
+     */
+    public void onSectionChanged(ItemEntity item, long section) {
+        Entry entry = this.items.get(item);
+        if (entry != null && entry.section != section) {
+            this.unbucket(item, entry);
+            this.place(item, entry, section, entry.mask);
+        }
+    }
+
+    public void onStackChanged(ItemEntity item) {
+        int mask = FoodMatcher.getMask(item.getStack());
+        Entry entry = this.items.get(item);
+        if (entry == null) {
+            // the stack is also set before the item is added to the world, which adds it to the index
+            if (mask != 0 && this.world.getEntity(item.getUuid()) == item) {
+                this.onLoaded(item);
+            }
+            return;
+        }
+        if (entry.mask == mask) {
+            return;
+        }
+        this.unbucket(item, entry);
+        if (mask == 0) {
+            this.items.remove(item);
+        }
+        else {
+            this.place(item, entry, entry.section, mask);
+        }
+    }
+
+    /**
+     * Rebuilds the index if a tag reload changed which species want each item.
+     */
+    private void update() {
+        int generation = FoodMatcher.getGeneration();
+        if (this.generation == generation) {
+            return;
+        }
+        this.generation = generation;
+        this.world.getProfiler().push("wantedItemIndex");
+        this.items.clear();
+        this.sections.forEach(Long2ObjectMap::clear);
+        for (Entity entity : this.world.iterateEntities()) {
+            if (entity instanceof ItemEntity item && item.isAlive()) {
+                this.onLoaded(item);
+            }
+        }
+        this.world.getProfiler().pop();
+    }
+
+    private void place(ItemEntity item, Entry entry, long section, int mask) {
+        entry.section = section;
+        entry.mask = mask;
+        for (int id = 0; id < this.sections.size(); id++) {
+            if ((entry.mask & 1 << id) != 0) {
+                this.sections.get(id).computeIfAbsent(entry.section, section -> new ReferenceOpenHashSet<>()).add(item);
+            }
+        }
+    }
+
+    private void unbucket(ItemEntity item, Entry entry) {
+        for (int id = 0; id < this.sections.size(); id++) {
+            if ((entry.mask & 1 << id) == 0) {
+                continue;
+            }
+            Long2ObjectMap<ReferenceSet<ItemEntity>> sections = this.sections.get(id);
+            ReferenceSet<ItemEntity> section = sections.get(entry.section);
+            if (section != null && section.remove(item) && section.isEmpty()) {
+                sections.remove(entry.section);
+            }
+        }
+    }
+
+    private static long getSection(Entity entity) {
+        return ChunkSectionPos.asLong(
+            ChunkSectionPos.getSectionCoord(entity.getBlockX()),
+            ChunkSectionPos.getSectionCoord(entity.getBlockY()),
+            ChunkSectionPos.getSectionCoord(entity.getBlockZ())
+        );
+    }
+
+    /**
+     * Finds the nearest item matching the food that is within range of the entity and accepted by the predicate.
+     * Sections are searched in rings around the entity, stopping once no further ring can hold a nearer item.
+     */
+    @Nullable
+    public ItemEntity findNearest(FoodMatcher food, Entity entity, int range, int verticalRange, Predicate<ItemEntity> predicate) {
+        this.update();
+        Long2ObjectMap<ReferenceSet<ItemEntity>> sections = this.sections.get(food.getId());
+        if (sections.isEmpty()) {
+            return null;
+        }
+        int centerX = ChunkSectionPos.getSectionCoord(entity.getBlockX());
+        int centerZ = ChunkSectionPos.getSectionCoord(entity.getBlockZ());
+        int minY = ChunkSectionPos.getSectionCoordFloored(entity.getY() - verticalRange);
+        int maxY = ChunkSectionPos.getSectionCoordFloored(entity.getY() + verticalRange);
+        int rings = Math.max(
+            Math.max(centerX - ChunkSectionPos.getSectionCoordFloored(entity.getX() - range), ChunkSectionPos.getSectionCoordFloored(entity.getX() + range) - centerX),
+            Math.max(centerZ - ChunkSectionPos.getSectionCoordFloored(entity.getZ() - range), ChunkSectionPos.getSectionCoordFloored(entity.getZ() + range) - centerZ)
+        );
+        ItemEntity nearest = null;
+        double nearestDistance = (double) range * range;
+        for (int ring = 0; ring <= rings; ring++) {
+            for (int x = centerX - ring; x <= centerX + ring; x++) {
+                for (int z = centerZ - ring; z <= centerZ + ring; z++) {
+                    if (Math.max(Math.abs(x - centerX), Math.abs(z - centerZ)) != ring) {
+                        continue;
+                    }
+                    for (int y = minY; y <= maxY; y++) {
+                        ReferenceSet<ItemEntity> section = sections.get(ChunkSectionPos.asLong(x, y, z));
+                        if (section == null) {
+                            continue;
+                        }
+                        for (ItemEntity item : section) {
+                            double distance = item.squaredDistanceTo(entity);
+                            if (distance < nearestDistance
+                                && Math.abs(item.getY() - entity.getY()) <= verticalRange
+                                && item.isAlive()
+                                && predicate.test(item)
+                            ) {
+                                nearest = item;
+                                nearestDistance = distance;
+                            }
+                        }
+                    }
+                }
+            }
+            // every section in the next ring is at least this far away
+            double ringDistance = ring * 16.0;
+            if (nearest != null && nearestDistance <= ringDistance * ringDistance) {
+                break;
+            }
+        }
+        return nearest;
+    }
+
+    private static class Entry {
+        private long section;
+        private int mask;
+    }
+}
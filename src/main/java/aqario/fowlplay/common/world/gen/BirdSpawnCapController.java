@@ -0,0 +1,93 @@
+package aqario.fowlplay.common.world.gen;
+
+import aqario.fowlplay.common.config.FowlPlayConfig;
+import aqario.fowlplay.common.entity.FowlPlaySpawnGroup;
+import aqario.fowlplay.common.entity.ai.brain.BirdBrainBudget;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Scales the spawn caps of the bird spawn groups with server load, within the configured bounds.
+ * Every second, the caps shrink while the average tick time is over the target, faster the more of the overrun
+ * is spent on bird brains and spawning, and grow back once the server has time to spare.
+ * <p>
+ * Spawn caps are shared by every world, so this is kept for the whole server.
+ */
+public final class BirdSpawnCapController {
+    private static final int INTERVAL = 20;
+    static final float DECREASE = 0.1F;
+    static final float INCREASE = 0.05F;
+    // ticks this far under the target leave time to spare
+    private static final float IDLE_FRACTION = 0.8F;
+    private static float scale = 1.0F;
+    private static long birdNanos;
+    private static int ticks;
+
+    private BirdSpawnCapController() {
+    }
+
+    public static void onWorldTick(ServerWorld world) {
+        birdNanos += BirdBrainBudget.get(world).getSpentNanos() + BirdSpawnScheduler.get(world).getChunkPassNanos();
+    }
+
+    public static void onServerTick(MinecraftServer server) {
+        if (++ticks < INTERVAL) {
+            return;
+        }
+        float birdTime = birdNanos / 1_000_000.0F / ticks;
+        ticks = 0;
+        birdNanos = 0;
+        FowlPlayConfig config = FowlPlayConfig.getInstance();
+        float tickTime = server.getAverageNanosPerTick() / 1_000_000.0F;
+        scale = step(scale, tickTime, birdTime, config.targetTickTime, config.minBirdSpawnCap, config.maxBirdSpawnCap);
+    }
+
+    /**
+     * @param tickTime the average tick time, in milliseconds
+     * @param birdTime the time spent on birds per tick, in milliseconds
+     * @param minCap the lowest cap, as a percentage of the default
+     * @param maxCap the highest cap, as a percentage of the default
+     * @return the scale after one interval
+     */
+    static float step(float scale, float tickTime, float birdTime, int targetTickTime, int minCap, int maxCap) {
+        float minScale = minCap / 100.0F;
+        float maxScale = Math.max(minScale, maxCap / 100.0F);
+        if (targetTickTime <= 0) {
+            return maxScale;
+        }
+        float overrun = tickTime - targetTickTime;
+        if (overrun > 0) {
+            // fewer birds would do little for an overrun they are only a small part of, so shrink gently then
+            scale -= DECREASE * MathHelper.clamp(birdTime / overrun, 0.25F, 1.0F);
+        }
+        else if (tickTime < targetTickTime * IDLE_FRACTION) {
+            scale += INCREASE;
+        }
+        return MathHelper.clamp(scale, minScale, maxScale);
+    }
+
+    public static void reset() {
+        scale = 1.0F;
+        birdNanos = 0;
+        ticks = 0;
+    }
+
+    /**
+     * @return the capacity of the spawn group, scaled if it is a bird spawn group
+     */
+    public static int getCapacity(SpawnGroup group, int capacity) {
+        if (group != FowlPlaySpawnGroup.BIRD.spawnGroup && group != FowlPlaySpawnGroup.BIRD_AMBIENT.spawnGroup) {
+            return capacity;
+        }
+        return Math.max(1, Math.round(capacity * scale));
+    }
+
+    /**
+     * @return the fraction of their default capacity the bird spawn caps are currently scaled to
+     */
+    public static float getScale() {
+        return scale;
+    }
+}
@@ -0,0 +1,25 @@
+package aqario.fowlplay.common.world.gen;
+
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.random.Random;
+
+/**
+ * How a species of bird is spawned around players outside the regular spawn cycle.
+ * Rules are run by the {@link BirdSpawnScheduler} of each world.
+ */
+public interface BirdSpawnRule {
+    boolean isEnabled();
+
+    /**
+     * @return the number of ticks until the next attempt
+     */
+    int getCooldown(Random random);
+
+    /**
+     * Tries to spawn birds somewhere around the player.
+     *
+     * @return the number of birds spawned
+     */
+    int spawn(ServerWorld world, PlayerEntity player, Random random);
+}
@@ -0,0 +1,123 @@
+package aqario.fowlplay.common.world.gen;
+
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.GameRules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the registered {@link BirdSpawnRule}s for a world, keeping each rule's cooldown per world.
+ * First attempts are spread over each rule's cooldown, and at most one rule makes an attempt per tick,
+ * so a rule that comes due on a busy tick waits for the next free one.
+ * <p>
+ * It also measures the chunk spawning passes of the bird spawn group in the world, which
+ * each chunk runs once every {@link #CHUNK_SPAWN_INTERVAL} ticks at its own phase.
+ */
+public class BirdSpawnScheduler {
+    public static final int CHUNK_SPAWN_INTERVAL = 20;
+    private static final List<BirdSpawnRule> RULES = new ArrayList<>();
+    private final ServerWorld world;
+    private int[] cooldowns = new int[0];
+    private boolean[] scheduled = new boolean[0];
+    private int lastMetricsTick = -1;
+    private int chunkPasses;
+    private long chunkPassNanos;
+    private int lastChunkPasses;
+    private long lastChunkPassNanos;
+
+    public BirdSpawnScheduler(ServerWorld world) {
+        this.world = world;
+    }
+
+    public static BirdSpawnScheduler get(ServerWorld world) {
+        return FowlPlayWorldState.get(world).getBirdSpawnScheduler();
+    }
+
+    public static void register(BirdSpawnRule rule) {
+        RULES.add(rule);
+    }
+
+    public void tick(boolean spawnAnimals) {
+        if (!spawnAnimals || !this.world.getGameRules().getBoolean(GameRules.DO_MOB_SPAWNING)) {
+            return;
+        }
+        Random random = this.world.random;
+        if (this.cooldowns.length != RULES.size()) {
+            this.cooldowns = new int[RULES.size()];
+            this.scheduled = new boolean[RULES.size()];
+        }
+        boolean attempted = false;
+        for (int i = 0; i < RULES.size(); i++) {
+            BirdSpawnRule rule = RULES.get(i);
+            if (!rule.isEnabled()) {
+                continue;
+            }
+            if (!this.scheduled[i]) {
+                this.cooldowns[i] = 1 + random.nextInt(Math.max(1, rule.getCooldown(random)));
+                this.scheduled[i] = true;
+            }
+            if (this.cooldowns[i] > 0) {
+                this.cooldowns[i]--;
+            }
+            if (this.cooldowns[i] > 0 || attempted) {
+                continue;
+            }
+            attempted = true;
+            this.cooldowns[i] = rule.getCooldown(random);
+            PlayerEntity player = this.world.getRandomAlivePlayer();
+            if (player != null && !player.isSpectator()) {
+                rule.spawn(this.world, player, random);
+            }
+        }
+    }
+
+    /**
+     * @return whether the chunk runs its bird spawning pass this tick
+     */
+    public static boolean isChunkSpawnTick(long time, ChunkPos pos) {
+        // a stable phase per chunk spreads the passes evenly over the interval
+        long phase = HashCommon.mix(pos.toLong());
+        return Math.floorMod(time + phase, CHUNK_SPAWN_INTERVAL) == 0;
+    }
+
+    public void recordChunkPass(long nanos) {
+        this.updateMetrics();
+        this.chunkPasses++;
+        this.chunkPassNanos += nanos;
+    }
+
+    private void updateMetrics() {
+        int tick = this.world.getServer().getTicks();
+        if (tick == this.lastMetricsTick) {
+            return;
+        }
+        // the passes recorded so far belong to the previous tick, unless whole ticks went by without any
+        this.lastChunkPasses = tick == this.lastMetricsTick + 1 ? this.chunkPasses : 0;
+        this.lastChunkPassNanos = tick == this.lastMetricsTick + 1 ? this.chunkPassNanos : 0;
+        this.lastMetricsTick = tick;
+        this.chunkPasses = 0;
+        this.chunkPassNanos = 0;
+    }
+
+    /**
+     * @return the number of chunks that ran a bird spawning pass during the last complete tick
+     */
+    public int getChunkPasses() {
+        this.updateMetrics();
+        return this.lastChunkPasses;
+    }
+
+    /**
+     * @return the time in nanoseconds spent on bird spawning passes during the last complete tick
+     */
+    public long getChunkPassNanos() {
+        this.updateMetrics();
+        return this.lastChunkPassNanos;
+    }
+}
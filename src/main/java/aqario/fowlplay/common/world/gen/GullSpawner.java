@@ -4,44 +4,33 @@ import aqario.fowlplay.common.config.FowlPlayConfig;
 import aqario.fowlplay.common.entity.FowlPlayEntityType;
 import aqario.fowlplay.common.entity.GullEntity;
 import aqario.fowlplay.common.tags.FowlPlayBiomeTags;
+import aqario.fowlplay.common.world.BirdPopulationMap;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.random.Random;
-import net.minecraft.world.GameRules;
 import net.minecraft.world.Heightmap;
 import net.minecraft.world.SpawnHelper;
-import net.minecraft.world.spawner.SpecialSpawner;
 
-import java.util.List;
-
-public class GullSpawner implements SpecialSpawner {
+public class GullSpawner implements BirdSpawnRule {
     private static final int SPAWN_COOLDOWN = 6000;
     private static final int MAX_SPAWN_HEIGHT = 48;
-    private int cooldown;
 
     @Override
-    public int spawn(ServerWorld world, boolean spawnMonsters, boolean spawnAnimals) {
-        if (!spawnAnimals
-            || !world.getGameRules().getBoolean(GameRules.DO_MOB_SPAWNING)
-            || FowlPlayConfig.getInstance().gullSpawnWeight <= 0
-        ) {
-            return 0;
-        }
-        this.cooldown--;
-        if (this.cooldown > 0) {
-            return 0;
-        }
-        Random random = world.random;
-        this.cooldown = SPAWN_COOLDOWN + (random.nextInt(60) - random.nextInt(60)) * 20;
-        PlayerEntity player = world.getRandomAlivePlayer();
-        if (player == null || player.isSpectator()) {
-            return 0;
-        }
+    public boolean isEnabled() {
+        return FowlPlayConfig.getInstance().gullSpawnWeight > 0;
+    }
+
+    @Override
+    public int getCooldown(Random random) {
+        return SPAWN_COOLDOWN + (random.nextInt(60) - random.nextInt(60)) * 20;
+    }
+
+    @Override
+    public int spawn(ServerWorld world, PlayerEntity player, Random random) {
         BlockPos playerPos = player.getBlockPos();
         BlockPos spawnPos = playerPos
             .up(30 + random.nextInt(20))
@@ -55,11 +44,7 @@ public class GullSpawner implements SpecialSpawner {
             if (spawnPos.getY() - world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, spawnPos.getX(), spawnPos.getZ()) > MAX_SPAWN_HEIGHT) {
                 return 0;
             }
-            List<GullEntity> nearbyGulls = world.getNonSpectatingEntities(
-                GullEntity.class,
-                new Box(spawnPos).expand(72, 48, 72)
-            );
-            if (!nearbyGulls.isEmpty()) {
+            if (BirdPopulationMap.get(world).count(FowlPlayEntityType.GULL, spawnPos, 72, 48) > 0) {
                 return 0;
             }
             GullEntity gull = FowlPlayEntityType.GULL.create(world);
@@ -4,46 +4,34 @@ import aqario.fowlplay.common.config.FowlPlayConfig;
 import aqario.fowlplay.common.entity.FowlPlayEntityType;
 import aqario.fowlplay.common.entity.SparrowEntity;
 import aqario.fowlplay.common.tags.FowlPlayBlockTags;
+import aqario.fowlplay.common.world.BirdPopulationMap;
+import aqario.fowlplay.common.world.SettlementDensityMap;
 import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.random.Random;
-import net.minecraft.world.GameRules;
-import net.minecraft.world.poi.PointOfInterestStorage;
-import net.minecraft.world.poi.PointOfInterestTypes;
-import net.minecraft.world.spawner.SpecialSpawner;
 
-import java.util.List;
-
-public class SparrowSpawner implements SpecialSpawner {
+public class SparrowSpawner implements BirdSpawnRule {
     private static final int SPAWN_COOLDOWN = 600;
+    private static final int CANDIDATES = 3;
+    private static final int SETTLEMENT_RADIUS = 48;
     private static final int MAX_SPARROWS = 12;
-    private int ticksUntilNextSpawn;
+
+    @Override
+    public boolean isEnabled() {
+        return FowlPlayConfig.getInstance().sparrowSpawnWeight > 0;
+    }
+
+    @Override
+    public int getCooldown(Random random) {
+        return SPAWN_COOLDOWN;
+    }
 
     @SuppressWarnings("deprecation")
     @Override
-    public int spawn(ServerWorld world, boolean spawnMonsters, boolean spawnAnimals) {
-        if (!spawnAnimals
-            || !world.getGameRules().getBoolean(GameRules.DO_MOB_SPAWNING)
-            || FowlPlayConfig.getInstance().sparrowSpawnWeight <= 0
-        ) {
-            return 0;
-        }
-        this.ticksUntilNextSpawn--;
-        if (this.ticksUntilNextSpawn > 0) {
-            return 0;
-        }
-        this.ticksUntilNextSpawn = SPAWN_COOLDOWN;
-        PlayerEntity player = world.getRandomAlivePlayer();
-        if (player == null) {
-            return 0;
-        }
-        Random random = world.random;
-        int x = (8 + random.nextInt(24)) * (random.nextBoolean() ? -1 : 1);
-        int z = (8 + random.nextInt(24)) * (random.nextBoolean() ? -1 : 1);
-        BlockPos pos = player.getBlockPos().add(x, 0, z);
+    public int spawn(ServerWorld world, PlayerEntity player, Random random) {
+        BlockPos pos = this.findSpawnPos(world, player, random);
         if (!world.isRegionLoaded(pos.getX() - 10, pos.getZ() - 10, pos.getX() + 10, pos.getZ() + 10)) {
             return 0;
         }
@@ -54,12 +42,29 @@ public class SparrowSpawner implements SpecialSpawner {
         return 0;
     }
 
+    /**
+     * Picks the most built up of a few random positions around the player.
+     */
+    private BlockPos findSpawnPos(ServerWorld world, PlayerEntity player, Random random) {
+        SettlementDensityMap settlements = SettlementDensityMap.get(world);
+        BlockPos spawnPos = player.getBlockPos();
+        int mostHomes = -1;
+        for (int i = 0; i < CANDIDATES; i++) {
+            int x = (8 + random.nextInt(24)) * (random.nextBoolean() ? -1 : 1);
+            int z = (8 + random.nextInt(24)) * (random.nextBoolean() ? -1 : 1);
+            BlockPos pos = player.getBlockPos().add(x, 0, z);
+            int homes = settlements.countOccupiedHomes(pos, SETTLEMENT_RADIUS);
+            if (homes > mostHomes) {
+                spawnPos = pos;
+                mostHomes = homes;
+            }
+        }
+        return spawnPos;
+    }
+
     private int spawnNearPoi(ServerWorld world, BlockPos pos) {
-        if (world.getPointOfInterestStorage()
-            .count(holder -> holder.matchesKey(PointOfInterestTypes.HOME), pos, 48, PointOfInterestStorage.OccupationStatus.IS_OCCUPIED)
-            > 4L) {
-            List<SparrowEntity> nearbySparrows = world.getNonSpectatingEntities(SparrowEntity.class, new Box(pos).expand(48.0, 8.0, 48.0));
-            if (nearbySparrows.size() < MAX_SPARROWS
+        if (SettlementDensityMap.get(world).countOccupiedHomes(pos, SETTLEMENT_RADIUS) > 4) {
+            if (BirdPopulationMap.get(world).count(FowlPlayEntityType.SPARROW, pos, 48, 8) < MAX_SPARROWS
                 && world.isSkyVisible(pos)
                 && world.getBlockState(pos).isIn(FowlPlayBlockTags.PASSERINES_SPAWNABLE_ON)
             ) {
@@ -0,0 +1,42 @@
+package aqario.fowlplay.mixin;
+
+import aqario.fowlplay.common.entity.BirdEntity;
+import aqario.fowlplay.common.world.BirdPopulationMap;
+import aqario.fowlplay.common.world.WantedItemIndex;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(Entity.class)
+public abstract class EntityMixin {
+    @Inject(method = "setPos", at = @At("HEAD"))
+    private void fowlplay$updateSection(double x, double y, double z, CallbackInfo ci) {
+        Entity entity = (Entity) (Object) this;
+        if (!(entity instanceof ItemEntity) && !(entity instanceof BirdEntity) || !(entity.getWorld() instanceof ServerWorld world)) {
+            return;
+        }
+        BlockPos pos = entity.getBlockPos();
+        int sectionX = ChunkSectionPos.getSectionCoord(MathHelper.floor(x));
+        int sectionY = ChunkSectionPos.getSectionCoord(MathHelper.floor(y));
+        int sectionZ = ChunkSectionPos.getSectionCoord(MathHelper.floor(z));
+        if (sectionX == ChunkSectionPos.getSectionCoord(pos.getX())
+            && sectionY == ChunkSectionPos.getSectionCoord(pos.getY())
+            && sectionZ == ChunkSectionPos.getSectionCoord(pos.getZ())) {
+            return;
+        }
+        long section = ChunkSectionPos.asLong(sectionX, sectionY, sectionZ);
+        if (entity instanceof ItemEntity item) {
+            WantedItemIndex.get(world).onSectionChanged(item, section);
+        }
+        else if (entity instanceof BirdEntity bird) {
+            BirdPopulationMap.get(world).onSectionChanged(bird, section);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package aqario.fowlplay.mixin;
+
+import aqario.fowlplay.common.world.WantedItemIndex;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ItemEntity.class)
+public abstract class ItemEntityMixin extends Entity {
+    public ItemEntityMixin(EntityType<?> type, World world) {
+        super(type, world);
+    }
+
+    @Inject(method = "setStack", at = @At("TAIL"))
+    private void fowlplay$updateWantedItemStack(ItemStack stack, CallbackInfo ci) {
+        if (this.getWorld() instanceof ServerWorld world) {
+            WantedItemIndex.get(world).onStackChanged((ItemEntity) (Object) this);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package aqario.fowlplay.mixin;
 
 import aqario.fowlplay.common.entity.BirdEntity;
+import aqario.fowlplay.common.world.LineOfSightCache;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.TargetPredicate;
 import net.minecraft.entity.ai.brain.MemoryModuleType;
 import net.minecraft.entity.ai.brain.sensor.Sensor;
+import net.minecraft.server.world.ServerWorld;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
@@ -17,34 +19,49 @@ public class SensorMixin {
     private static final double SIGHT_DISTANCE = 32.0;
     @Unique
     private static final TargetPredicate TARGET_PREDICATE = TargetPredicate.createNonAttackable()
-        .setBaseMaxDistance(SIGHT_DISTANCE);
+        .setBaseMaxDistance(SIGHT_DISTANCE)
+        .ignoreVisibility();
     @Unique
     private static final TargetPredicate TARGET_PREDICATE_IGNORE_DISTANCE_SCALING = TargetPredicate.createNonAttackable()
         .setBaseMaxDistance(SIGHT_DISTANCE)
-        .ignoreDistanceScalingFactor();
+        .ignoreDistanceScalingFactor()
+        .ignoreVisibility();
     @Unique
     private static final TargetPredicate ATTACKABLE_TARGET_PREDICATE = TargetPredicate.createAttackable()
-        .setBaseMaxDistance(SIGHT_DISTANCE);
+        .setBaseMaxDistance(SIGHT_DISTANCE)
+        .ignoreVisibility();
     @Unique
     private static final TargetPredicate ATTACKABLE_TARGET_PREDICATE_IGNORE_DISTANCE_SCALING = TargetPredicate.createAttackable()
         .setBaseMaxDistance(SIGHT_DISTANCE)
-        .ignoreDistanceScalingFactor();
+        .ignoreDistanceScalingFactor()
+        .ignoreVisibility();
 
     @Inject(method = "testTargetPredicate", at = @At("HEAD"), cancellable = true)
     private static void fowlplay$modifyTargetPredicateRange(LivingEntity entity, LivingEntity target, CallbackInfoReturnable<Boolean> cir) {
         if (entity instanceof BirdEntity bird) {
-            cir.setReturnValue(bird.getBrain().hasMemoryModuleWithValue(MemoryModuleType.ATTACK_TARGET, target)
+            boolean inRange = bird.getBrain().hasMemoryModuleWithValue(MemoryModuleType.ATTACK_TARGET, target)
                 ? TARGET_PREDICATE_IGNORE_DISTANCE_SCALING.test(entity, target)
-                : TARGET_PREDICATE.test(entity, target));
+                : TARGET_PREDICATE.test(entity, target);
+            cir.setReturnValue(inRange && fowlplay$canSee(bird, target));
         }
     }
 
     @Inject(method = "testAttackableTargetPredicate", at = @At("HEAD"), cancellable = true)
     private static void fowlplay$modifyAttackableTargetPredicateRange(LivingEntity entity, LivingEntity target, CallbackInfoReturnable<Boolean> cir) {
         if (entity instanceof BirdEntity bird) {
-            cir.setReturnValue(bird.getBrain().hasMemoryModuleWithValue(MemoryModuleType.ATTACK_TARGET, target)
+            boolean inRange = bird.getBrain().hasMemoryModuleWithValue(MemoryModuleType.ATTACK_TARGET, target)
                 ? ATTACKABLE_TARGET_PREDICATE_IGNORE_DISTANCE_SCALING.test(entity, target)
-                : ATTACKABLE_TARGET_PREDICATE.test(entity, target));
+                : ATTACKABLE_TARGET_PREDICATE.test(entity, target);
+            cir.setReturnValue(inRange && fowlplay$canSee(bird, target));
+        }
+    }
+
+    // visibility is tested separately so the raycast can be shared between sensor passes
+    @Unique
+    private static boolean fowlplay$canSee(BirdEntity bird, LivingEntity target) {
+        if (bird.getWorld() instanceof ServerWorld world) {
+            return LineOfSightCache.get(world).canSee(bird, target);
         }
+        return bird.getVisibilityCache().canSee(target);
     }
 }
@@ -0,0 +1,28 @@
+package aqario.fowlplay.mixin;
+
+import aqario.fowlplay.common.world.FowlPlayServerWorld;
+import aqario.fowlplay.common.world.FowlPlayWorldState;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldMixin implements FowlPlayServerWorld {
+    @Unique
+    private final FowlPlayWorldState state = new FowlPlayWorldState((ServerWorld) (Object) this);
+
+    @Inject(method = "onBlockChanged", at = @At("HEAD"))
+    private void fowlplay$onBlockChanged(BlockPos pos, BlockState oldBlock, BlockState newBlock, CallbackInfo ci) {
+        this.state.onBlockChanged(pos, oldBlock, newBlock);
+    }
+
+    @Override
+    public FowlPlayWorldState fowlplay$getState() {
+        return this.state;
+    }
+}
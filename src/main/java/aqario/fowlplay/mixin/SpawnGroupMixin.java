@@ -1,11 +1,13 @@
 package aqario.fowlplay.mixin;
 
 import aqario.fowlplay.common.entity.FowlPlaySpawnGroup;
+import aqario.fowlplay.common.world.gen.BirdSpawnCapController;
 import net.minecraft.entity.SpawnGroup;
 import org.spongepowered.asm.mixin.*;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 import java.util.Arrays;
 
@@ -40,4 +42,9 @@ public class SpawnGroupMixin {
             spawnGroup.spawnGroup = field_6301[pos] = createSpawnGroup(spawnGroup.name(), pos, spawnGroup);
         }
     }
-}
\ No newline at end of file
+
+    @Inject(method = "getCapacity", at = @At("RETURN"), cancellable = true)
+    private void getCapacity(CallbackInfoReturnable<Integer> cir) {
+        cir.setReturnValue(BirdSpawnCapController.getCapacity((SpawnGroup) (Object) this, cir.getReturnValueI()));
+    }
+}
@@ -1,21 +1,39 @@
 package aqario.fowlplay.mixin;
 
 import aqario.fowlplay.common.entity.FowlPlaySpawnGroup;
+import aqario.fowlplay.common.world.gen.BirdSpawnScheduler;
 import net.minecraft.entity.SpawnGroup;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Util;
 import net.minecraft.world.SpawnHelper;
 import net.minecraft.world.chunk.WorldChunk;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(SpawnHelper.class)
 public class SpawnHelperMixin {
+    @Unique
+    private static long fowlplay$chunkPassStart;
+
     @Inject(method = "spawnEntitiesInChunk(Lnet/minecraft/entity/SpawnGroup;Lnet/minecraft/server/world/ServerWorld;Lnet/minecraft/world/chunk/WorldChunk;Lnet/minecraft/world/SpawnHelper$Checker;Lnet/minecraft/world/SpawnHelper$Runner;)V", at = @At("HEAD"), cancellable = true)
     private static void spawnEntitiesInChunk(SpawnGroup group, ServerWorld world, WorldChunk chunk, SpawnHelper.Checker checker, SpawnHelper.Runner runner, CallbackInfo ci) {
-        if (group == FowlPlaySpawnGroup.BIRD.spawnGroup && world.getLevelProperties().getTime() % 20L != 0L) {
+        if (group != FowlPlaySpawnGroup.BIRD.spawnGroup) {
+            return;
+        }
+        if (!BirdSpawnScheduler.isChunkSpawnTick(world.getLevelProperties().getTime(), chunk.getPos())) {
             ci.cancel();
+            return;
+        }
+        fowlplay$chunkPassStart = Util.getMeasuringTimeNano();
+    }
+
+    @Inject(method = "spawnEntitiesInChunk(Lnet/minecraft/entity/SpawnGroup;Lnet/minecraft/server/world/ServerWorld;Lnet/minecraft/world/chunk/WorldChunk;Lnet/minecraft/world/SpawnHelper$Checker;Lnet/minecraft/world/SpawnHelper$Runner;)V", at = @At("RETURN"))
+    private static void recordChunkPass(SpawnGroup group, ServerWorld world, WorldChunk chunk, SpawnHelper.Checker checker, SpawnHelper.Runner runner, CallbackInfo ci) {
+        if (group == FowlPlaySpawnGroup.BIRD.spawnGroup) {
+            BirdSpawnScheduler.get(world).recordChunkPass(Util.getMeasuringTimeNano() - fowlplay$chunkPassStart);
         }
     }
 }
@@ -0,0 +1,62 @@
+package aqario.fowlplay.common.entity.ai.pathing;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathCacheTest {
+    private static final long SECTION = ChunkSectionPos.asLong(0, 4, 0);
+    private static final long OTHER_SECTION = ChunkSectionPos.asLong(1, 4, 0);
+    private static final long UNRELATED_SECTION = ChunkSectionPos.asLong(9, 4, 9);
+
+    @Test
+    void entriesExpireAfterTtl() {
+        assertFalse(PathCache.isExpired(100, 100));
+        assertFalse(PathCache.isExpired(100, 100 + PathCache.TTL - 1));
+        assertTrue(PathCache.isExpired(100, 100 + PathCache.TTL));
+    }
+
+    @Test
+    void noChangesNeedNoRevalidation() {
+        assertNull(PathCache.getChangedSections(LongSet.of(SECTION, OTHER_SECTION), changes(), 50));
+    }
+
+    @Test
+    void changesBeforeTheLastCheckAreIgnored() {
+        assertNull(PathCache.getChangedSections(LongSet.of(SECTION), changes(SECTION, 49), 50));
+    }
+
+    @Test
+    void changesAtOrAfterTheLastCheckAreRevalidated() {
+        LongSet changed = PathCache.getChangedSections(
+            LongSet.of(SECTION, OTHER_SECTION),
+            changes(SECTION, 50, OTHER_SECTION, 80),
+            50
+        );
+        assertEquals(new LongOpenHashSet(new long[]{SECTION, OTHER_SECTION}), changed);
+    }
+
+    @Test
+    void changesOffThePathAreIgnored() {
+        LongSet changed = PathCache.getChangedSections(
+            LongSet.of(SECTION, OTHER_SECTION),
+            changes(OTHER_SECTION, 60, UNRELATED_SECTION, 60),
+            50
+        );
+        assertEquals(LongSet.of(OTHER_SECTION), changed);
+    }
+
+    private static Long2LongMap changes(long... sectionsAndTimes) {
+        Long2LongMap changes = new Long2LongOpenHashMap();
+        changes.defaultReturnValue(-1L);
+        for (int i = 0; i < sectionsAndTimes.length; i += 2) {
+            changes.put(sectionsAndTimes[i], sectionsAndTimes[i + 1]);
+        }
+        return changes;
+    }
+}
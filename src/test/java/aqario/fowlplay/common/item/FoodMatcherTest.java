@@ -0,0 +1,84 @@
+package aqario.fowlplay.common.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FoodMatcherTest {
+    private static final int SEEDS = 3;
+    private static final int FISH = 40;
+    private static final int STONE = 7;
+
+    @AfterEach
+    void clear() {
+        FoodMatcher.GULL.setItems(new BitSet());
+        FoodMatcher.SPARROW.setItems(new BitSet());
+    }
+
+    @Test
+    void matchesOnlyTheItemsOfItsTag() {
+        FoodMatcher.SPARROW.setItems(items(SEEDS));
+        assertTrue(FoodMatcher.SPARROW.matches(SEEDS));
+        assertFalse(FoodMatcher.SPARROW.matches(FISH));
+        assertFalse(FoodMatcher.SPARROW.matches(STONE));
+    }
+
+    @Test
+    void matchersKeepTheirOwnItems() {
+        FoodMatcher.GULL.setItems(items(FISH));
+        FoodMatcher.SPARROW.setItems(items(SEEDS));
+        assertFalse(FoodMatcher.GULL.matches(SEEDS));
+        assertFalse(FoodMatcher.SPARROW.matches(FISH));
+    }
+
+    @Test
+    void replacedItemsTakeEffect() {
+        FoodMatcher.GULL.setItems(items(FISH));
+        assertTrue(FoodMatcher.GULL.matches(FISH));
+        FoodMatcher.GULL.setItems(items(SEEDS));
+        assertFalse(FoodMatcher.GULL.matches(FISH));
+        assertTrue(FoodMatcher.GULL.matches(SEEDS));
+    }
+
+    @Test
+    void idsPastTheLastItemDoNotMatch() {
+        FoodMatcher.GULL.setItems(items(FISH));
+        assertFalse(FoodMatcher.GULL.matches(FISH + 1000));
+    }
+
+    @Test
+    void idsFitInAMask() {
+        assertTrue(FoodMatcher.count() <= Integer.SIZE);
+    }
+
+    @Test
+    void idsAreUnique() {
+        List<FoodMatcher> matchers = List.of(
+            FoodMatcher.BLUE_JAY,
+            FoodMatcher.CARDINAL,
+            FoodMatcher.CHICKADEE,
+            FoodMatcher.DUCK,
+            FoodMatcher.GULL,
+            FoodMatcher.HAWK,
+            FoodMatcher.PENGUIN,
+            FoodMatcher.PIGEON,
+            FoodMatcher.RAVEN,
+            FoodMatcher.ROBIN,
+            FoodMatcher.SPARROW
+        );
+        assertEquals(matchers.size(), matchers.stream().map(FoodMatcher::getId).collect(Collectors.toSet()).size());
+    }
+
+    private static BitSet items(int... rawIds) {
+        BitSet items = new BitSet();
+        for (int rawId : rawIds) {
+            items.set(rawId);
+        }
+        return items;
+    }
+}
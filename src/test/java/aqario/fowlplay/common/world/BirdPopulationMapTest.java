@@ -0,0 +1,82 @@
+package aqario.fowlplay.common.world;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.entity.EntityType;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BirdPopulationMapTest {
+    private static final long ORIGIN = ChunkSectionPos.asLong(0, 0, 0);
+    private static final long NEXT = ChunkSectionPos.asLong(1, 0, 0);
+    private static final long ABOVE = ChunkSectionPos.asLong(0, 3, 0);
+    private static final long FAR = ChunkSectionPos.asLong(20, 4, 20);
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    @Test
+    void countsLoadedBirdsOnce() {
+        BirdPopulationMap map = new BirdPopulationMap();
+        UUID bird = UUID.randomUUID();
+        map.onLoaded(bird, EntityType.PARROT, ORIGIN);
+        map.onLoaded(bird, EntityType.PARROT, ORIGIN);
+        assertEquals(1, map.count(EntityType.PARROT, BlockPos.ORIGIN, 0, 0));
+        assertEquals(0, map.count(EntityType.CHICKEN, BlockPos.ORIGIN, 0, 0));
+    }
+
+    @Test
+    void movingBirdsLeaveTheirOldChunk() {
+        BirdPopulationMap map = new BirdPopulationMap();
+        UUID bird = UUID.randomUUID();
+        map.onLoaded(bird, EntityType.PARROT, ORIGIN);
+        map.onMoved(bird, EntityType.PARROT, FAR);
+        assertEquals(0, map.count(EntityType.PARROT, BlockPos.ORIGIN, 0, 0));
+        assertEquals(1, map.count(EntityType.PARROT, new BlockPos(20 * 16, 4 * 16, 20 * 16), 0, 0));
+    }
+
+    @Test
+    void movesWithinTheRadiusKeepTheCount() {
+        BirdPopulationMap map = new BirdPopulationMap();
+        UUID bird = UUID.randomUUID();
+        map.onLoaded(bird, EntityType.PARROT, ORIGIN);
+        map.onMoved(bird, EntityType.PARROT, NEXT);
+        map.onMoved(bird, EntityType.PARROT, NEXT);
+        assertEquals(1, map.count(EntityType.PARROT, BlockPos.ORIGIN, 16, 16));
+    }
+
+    @Test
+    void onlyCountsTheSectionsWithinTheVerticalRadius() {
+        BirdPopulationMap map = new BirdPopulationMap();
+        map.onLoaded(UUID.randomUUID(), EntityType.PARROT, ABOVE);
+        assertEquals(0, map.count(EntityType.PARROT, new BlockPos(8, 8, 8), 48, 8));
+        assertEquals(1, map.count(EntityType.PARROT, new BlockPos(8, 8, 8), 72, 48));
+    }
+
+    @Test
+    void unloadedBirdsAreNoLongerCounted() {
+        BirdPopulationMap map = new BirdPopulationMap();
+        UUID bird = UUID.randomUUID();
+        map.onLoaded(bird, EntityType.PARROT, ORIGIN);
+        map.onMoved(bird, EntityType.PARROT, NEXT);
+        map.onUnloaded(bird, EntityType.PARROT);
+        map.onUnloaded(bird, EntityType.PARROT);
+        assertEquals(0, map.count(EntityType.PARROT, BlockPos.ORIGIN, 16, 16));
+    }
+
+    @Test
+    void untrackedBirdsAreIgnored() {
+        BirdPopulationMap map = new BirdPopulationMap();
+        map.onMoved(UUID.randomUUID(), EntityType.PARROT, ORIGIN);
+        assertEquals(0, map.count(EntityType.PARROT, BlockPos.ORIGIN, 0, 0));
+    }
+}
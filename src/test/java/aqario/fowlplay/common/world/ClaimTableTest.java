@@ -0,0 +1,100 @@
+package aqario.fowlplay.common.world;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaimTableTest {
+    private static final int TTL = FoodReservationTable.TTL;
+    private final Set<String> dead = new HashSet<>();
+    private final ClaimTable<String, String> table = new ClaimTable<>(TTL, bird -> !this.dead.contains(bird));
+
+    @Test
+    void claimsAreExclusive() {
+        assertTrue(this.table.tryClaim("jay", "seeds", 0));
+        assertFalse(this.table.tryClaim("robin", "seeds", 1));
+        assertTrue(this.table.isClaimedByOther("robin", "seeds", 1));
+        assertFalse(this.table.isClaimedByOther("jay", "seeds", 1));
+        assertTrue(this.table.tryClaim("jay", "seeds", 2));
+    }
+
+    @Test
+    void claimsLapseAfterTtl() {
+        this.table.tryClaim("jay", "seeds", 0);
+        assertTrue(this.table.isClaimedByOther("robin", "seeds", TTL - 1));
+        assertFalse(this.table.isClaimedByOther("robin", "seeds", TTL));
+        assertTrue(this.table.tryClaim("robin", "seeds", TTL));
+    }
+
+    @Test
+    void renewingExtendsTheClaim() {
+        this.table.tryClaim("jay", "seeds", 0);
+        this.table.renew("jay", "seeds", TTL - 1);
+        assertTrue(this.table.isClaimedByOther("robin", "seeds", 2 * TTL - 2));
+        assertFalse(this.table.isClaimedByOther("robin", "seeds", 2 * TTL - 1));
+    }
+
+    @Test
+    void othersCannotRenewAClaim() {
+        this.table.tryClaim("jay", "seeds", 0);
+        this.table.renew("robin", "seeds", TTL - 1);
+        assertFalse(this.table.isClaimedByOther("robin", "seeds", TTL));
+    }
+
+    @Test
+    void claimsOfDeadClaimantsLapseAtOnce() {
+        this.table.tryClaim("jay", "seeds", 0);
+        this.dead.add("jay");
+        assertFalse(this.table.isClaimedByOther("robin", "seeds", 1));
+    }
+
+    @Test
+    void claimingAnotherTargetDropsThePreviousClaim() {
+        this.table.tryClaim("jay", "seeds", 0);
+        this.table.tryClaim("jay", "berries", 1);
+        assertFalse(this.table.isClaimedByOther("robin", "seeds", 2));
+        assertTrue(this.table.isClaimedByOther("robin", "berries", 2));
+        assertEquals(1, this.table.size());
+    }
+
+    @Test
+    void releasingATargetFreesIt() {
+        this.table.tryClaim("jay", "seeds", 0);
+        this.table.releaseTarget("seeds");
+        assertFalse(this.table.isClaimedByOther("robin", "seeds", 1));
+        // the claimant no longer holds anything to release
+        this.table.tryClaim("robin", "seeds", 1);
+        this.table.releaseClaimant("jay");
+        assertTrue(this.table.isClaimedByOther("jay", "seeds", 2));
+    }
+
+    @Test
+    void releasingAClaimantFreesItsTarget() {
+        this.table.tryClaim("jay", "seeds", 0);
+        this.table.releaseClaimant("jay");
+        assertFalse(this.table.isClaimedByOther("robin", "seeds", 1));
+    }
+
+    @Test
+    void releasingALapsedClaimKeepsTheClaimThatReplacedIt() {
+        this.table.tryClaim("jay", "seeds", 0);
+        this.table.tryClaim("robin", "seeds", TTL);
+        this.table.releaseClaimant("jay");
+        assertTrue(this.table.isClaimedByOther("jay", "seeds", TTL + 1));
+    }
+
+    @Test
+    void cleanupDropsLapsedClaims() {
+        this.table.tryClaim("jay", "seeds", 0);
+        this.table.tryClaim("robin", "berries", TTL);
+        this.table.cleanup(TTL);
+        assertEquals(1, this.table.size());
+        // the lapsed claimant's record went with its claim
+        this.table.tryClaim("sparrow", "seeds", TTL);
+        this.table.releaseClaimant("jay");
+        assertTrue(this.table.isClaimedByOther("jay", "seeds", TTL + 1));
+    }
+}
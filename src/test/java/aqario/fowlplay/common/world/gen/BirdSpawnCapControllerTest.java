@@ -0,0 +1,58 @@
+package aqario.fowlplay.common.world.gen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BirdSpawnCapControllerTest {
+    private static final float EPSILON = 1.0E-5F;
+    private static final int TARGET = 40;
+    private static final int MIN = 25;
+    private static final int MAX = 100;
+
+    @Test
+    void shrinksFullyWhenBirdsCauseTheOverrun() {
+        float scale = BirdSpawnCapController.step(1.0F, 50.0F, 10.0F, TARGET, MIN, MAX);
+        assertEquals(1.0F - BirdSpawnCapController.DECREASE, scale, EPSILON);
+    }
+
+    @Test
+    void shrinksGentlyWhenBirdsAreASmallPartOfTheOverrun() {
+        float scale = BirdSpawnCapController.step(1.0F, 50.0F, 0.1F, TARGET, MIN, MAX);
+        assertEquals(1.0F - BirdSpawnCapController.DECREASE * 0.25F, scale, EPSILON);
+    }
+
+    @Test
+    void shrinksInProportionInBetween() {
+        float scale = BirdSpawnCapController.step(1.0F, 50.0F, 5.0F, TARGET, MIN, MAX);
+        assertEquals(1.0F - BirdSpawnCapController.DECREASE * 0.5F, scale, EPSILON);
+    }
+
+    @Test
+    void growsWithTimeToSpare() {
+        float scale = BirdSpawnCapController.step(0.5F, 10.0F, 1.0F, TARGET, MIN, MAX);
+        assertEquals(0.5F + BirdSpawnCapController.INCREASE, scale, EPSILON);
+    }
+
+    @Test
+    void holdsNearTheTarget() {
+        assertEquals(0.5F, BirdSpawnCapController.step(0.5F, 35.0F, 1.0F, TARGET, MIN, MAX), EPSILON);
+    }
+
+    @Test
+    void clampsToTheConfiguredBounds() {
+        assertEquals(0.25F, BirdSpawnCapController.step(0.26F, 80.0F, 40.0F, TARGET, MIN, MAX), EPSILON);
+        assertEquals(1.0F, BirdSpawnCapController.step(0.98F, 5.0F, 0.0F, TARGET, MIN, MAX), EPSILON);
+        assertEquals(0.6F, BirdSpawnCapController.step(1.0F, 5.0F, 0.0F, TARGET, MIN, 60), EPSILON);
+    }
+
+    @Test
+    void maximumNeverFallsBelowMinimum() {
+        assertEquals(0.5F, BirdSpawnCapController.step(1.0F, 80.0F, 40.0F, TARGET, 50, 30), EPSILON);
+    }
+
+    @Test
+    void disabledTargetUsesTheMaximum() {
+        assertEquals(0.8F, BirdSpawnCapController.step(0.3F, 80.0F, 40.0F, 0, MIN, 80), EPSILON);
+    }
+}
@@ -0,0 +1,59 @@
+package aqario.fowlplay.common.world.gen;
+
+import net.minecraft.util.math.ChunkPos;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BirdSpawnSchedulerTest {
+    private static final int INTERVAL = BirdSpawnScheduler.CHUNK_SPAWN_INTERVAL;
+
+    @Test
+    void eachChunkSpawnsOncePerInterval() {
+        for (int x = -8; x < 8; x++) {
+            for (int z = -8; z < 8; z++) {
+                ChunkPos pos = new ChunkPos(x, z);
+                for (long start = 0; start < 3 * INTERVAL; start += INTERVAL) {
+                    int passes = 0;
+                    for (long time = start; time < start + INTERVAL; time++) {
+                        if (BirdSpawnScheduler.isChunkSpawnTick(time, pos)) {
+                            passes++;
+                        }
+                    }
+                    assertEquals(1, passes, "chunk " + pos);
+                }
+            }
+        }
+    }
+
+    @Test
+    void neighbouringChunksAreSpreadOverTheInterval() {
+        int[] passes = new int[INTERVAL];
+        int chunks = 0;
+        for (int x = -16; x < 16; x++) {
+            for (int z = -16; z < 16; z++) {
+                ChunkPos pos = new ChunkPos(x, z);
+                for (int time = 0; time < INTERVAL; time++) {
+                    if (BirdSpawnScheduler.isChunkSpawnTick(time, pos)) {
+                        passes[time]++;
+                    }
+                }
+                chunks++;
+            }
+        }
+        int average = chunks / INTERVAL;
+        for (int time = 0; time < INTERVAL; time++) {
+            assertTrue(passes[time] > average / 2, "too few passes on tick " + time);
+            assertTrue(passes[time] < average * 2, "too many passes on tick " + time);
+        }
+    }
+
+    @Test
+    void negativeTimesStayInPhase() {
+        ChunkPos pos = new ChunkPos(3, -7);
+        for (long time = -INTERVAL; time < 0; time++) {
+            assertEquals(BirdSpawnScheduler.isChunkSpawnTick(time, pos), BirdSpawnScheduler.isChunkSpawnTick(time + INTERVAL, pos));
+        }
+    }
+}